@@ -0,0 +1,29 @@
+package polltracker;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark with the GC profiler, so along with the throughput of
+ * each hot path the results show how many bytes it allocates per operation.
+ * Any arguments are a regular expression that picks which benchmarks to run.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BenchmarkSuite {
+
+	public static void main(String[] args) throws RunnerException {
+		OptionsBuilder options = new OptionsBuilder();
+		if (args.length == 0)
+			options.include(".*Benchmark.*");
+		for (int arg = 0; arg < args.length; arg++) {
+			options.include(args[arg]);
+		}
+		Options opts = options.addProfiler(GCProfiler.class).build();
+		new Runner(opts).run();
+	}
+}
@@ -0,0 +1,95 @@
+package polltracker;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how aggregating scales with the number of threads in the
+ * ForkJoinPool it runs in, for both PollList and ColumnarPollList. The
+ * sequential benchmark is the baseline the speedup is measured against. Both
+ * benchmarks go around the cache getAggregatePoll keeps, so every invocation
+ * goes over all the polls.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class ParallelAggregateBenchmark {
+	private static final int NUM_OF_PARTIES = 10;
+
+	@Param({ "1", "2", "4", "8", "16" })
+	public int numOfThreads;
+
+	@Param({ "PollList", "ColumnarPollList" })
+	public String listType;
+
+	@Param({ "1000000" })
+	public int numOfPolls;
+
+	private PollList pollList;
+	private String[] partyNames;
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setUp() {
+		if (listType.equals("ColumnarPollList"))
+			pollList = new ColumnarPollList(numOfPolls, 300);
+		else
+			pollList = new PollList(numOfPolls, 300);
+		partyNames = new String[NUM_OF_PARTIES];
+		for (int party = 0; party < NUM_OF_PARTIES; party++) {
+			partyNames[party] = "Party " + party;
+		}
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			Poll aPoll = new Poll("Poll " + poll, NUM_OF_PARTIES);
+			for (int party = 0; party < NUM_OF_PARTIES; party++) {
+				aPoll.addParty(new Party(partyNames[party], (poll + party) % 60, ((poll * party) % 100) / 1000f));
+			}
+			pollList.addPoll(aPoll);
+		}
+		pool = new ForkJoinPool(numOfThreads);
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Aggregates the polls in the calling thread.
+	 *
+	 * @return The average parties, so they can't be optimized away.
+	 */
+	@Benchmark
+	public Party[] sequential() {
+		return pollList.averagePartyData(partyNames, null);
+	}
+
+	/**
+	 * Aggregates the polls in a pool of numOfThreads threads.
+	 *
+	 * @return The average parties, so they can't be optimized away.
+	 */
+	@Benchmark
+	public Party[] parallel() {
+		return pollList.averagePartyData(partyNames, pool);
+	}
+}
@@ -0,0 +1,60 @@
+package polltracker;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of Party.toString, with and without a colour, since
+ * it is called for every party whenever a poll or list is printed.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartyBenchmark {
+	private Party party;
+	private Party colouredParty;
+
+	@Setup
+	public void setUp() {
+		party = new Party("Party", 42f, .35f);
+		colouredParty = new Party("Coloured Party", 42f, .35f);
+		colouredParty.setColour(new Color(200, 40, 10));
+	}
+
+	/**
+	 * Converts a party without a colour to a string.
+	 *
+	 * @return The string, so it can't be optimized away.
+	 */
+	@Benchmark
+	public String toStringWithoutColour() {
+		return party.toString();
+	}
+
+	/**
+	 * Converts a party with a colour to a string.
+	 *
+	 * @return The string, so it can't be optimized away.
+	 */
+	@Benchmark
+	public String toStringWithColour() {
+		return colouredParty.toString();
+	}
+}
@@ -0,0 +1,76 @@
+package polltracker;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of filling a poll with addParty and of looking
+ * parties up with getParty, for polls with a few and with many parties.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PollBenchmark {
+	@Param({ "10", "100", "1000" })
+	public int numOfParties;
+
+	private Party[] parties;
+	private String[] lookupNames;
+	private Poll poll;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		parties = new Party[numOfParties];
+		lookupNames = new String[numOfParties];
+		poll = new Poll("Poll", numOfParties);
+		for (int party = 0; party < numOfParties; party++) {
+			parties[party] = new Party("Party " + party, party % 60, 1f / numOfParties);
+			poll.addParty(parties[party]);
+			// Look up with a different case, as the text application does
+			lookupNames[party] = "PARTY " + party;
+		}
+	}
+
+	/**
+	 * Creates a poll and adds every party to it.
+	 *
+	 * @return The filled poll, so it can't be optimized away.
+	 */
+	@Benchmark
+	public Poll addParty() {
+		Poll aPoll = new Poll("Poll", numOfParties);
+		for (int party = 0; party < numOfParties; party++) {
+			aPoll.addParty(parties[party]);
+		}
+		return aPoll;
+	}
+
+	/**
+	 * Looks up the next party by name, going round all of them.
+	 *
+	 * @return The party, so it can't be optimized away.
+	 */
+	@Benchmark
+	public Party getParty() {
+		next = next + 1 == numOfParties ? 0 : next + 1;
+		return poll.getParty(lookupNames[next]);
+	}
+}
@@ -0,0 +1,95 @@
+package polltracker;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many party rows per second PollFileReader loads from CSV and
+ * JSON lines files.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PollFileReaderBenchmark {
+	private static final int NUM_OF_POLLS = 10000;
+	private static final int NUM_OF_PARTIES = 10;
+	private static final int NUM_OF_ROWS = NUM_OF_POLLS * NUM_OF_PARTIES;
+
+	private Path csvFile;
+	private Path jsonLinesFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		csvFile = Files.createTempFile("polls", ".csv");
+		jsonLinesFile = Files.createTempFile("polls", ".jsonl");
+		try (BufferedWriter csv = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8);
+				BufferedWriter json = Files.newBufferedWriter(jsonLinesFile, StandardCharsets.UTF_8)) {
+			csv.write("poll,party,seats,votes\n");
+			for (int poll = 0; poll < NUM_OF_POLLS; poll++) {
+				for (int party = 0; party < NUM_OF_PARTIES; party++) {
+					csv.write("Poll " + poll + ",Party " + party + "," + (party * 3) + "," + (party / 100.0) + "\n");
+					json.write("{\"poll\": \"Poll " + poll + "\", \"party\": \"Party " + party + "\", \"seats\": "
+							+ (party * 3) + ", \"votes\": " + (party / 100.0) + "}\n");
+				}
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.delete(csvFile);
+		Files.delete(jsonLinesFile);
+	}
+
+	/**
+	 * Loads the CSV file into a new PollList. Scores are in rows per second.
+	 *
+	 * @return The loaded list, so loading can't be optimized away.
+	 * @throws IOException If the file can't be read.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(NUM_OF_ROWS)
+	public PollList readCsv() throws IOException {
+		PollList pollList = new PollList(NUM_OF_POLLS, 300);
+		new PollFileReader(pollList).read(csvFile);
+		return pollList;
+	}
+
+	/**
+	 * Loads the JSON lines file into a new PollList. Scores are in rows per
+	 * second.
+	 *
+	 * @return The loaded list, so loading can't be optimized away.
+	 * @throws IOException If the file can't be read.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(NUM_OF_ROWS)
+	public PollList readJsonLines() throws IOException {
+		PollList pollList = new PollList(NUM_OF_POLLS, 300);
+		new PollFileReader(pollList).read(jsonLinesFile);
+		return pollList;
+	}
+}
@@ -0,0 +1,99 @@
+package polltracker;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of averaging, aggregating and visualizing a list of
+ * polls, from a handful of polls up to a million. The polls come from a
+ * Factory with a fixed seed, so every run measures the same data. The list
+ * caches its aggregate and visualizations while it is unchanged, so all but
+ * getAggregatePollCached go around the cache and do the work every time.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx6g" })
+public class PollListBenchmark {
+	private static final String[] PARTY_NAMES = { "Liberal", "Conservative", "NDP", "Green", "Bloc", "People's",
+			"Independent", "Rhinoceros", "Libertarian", "Communist" };
+
+	@Param({ "10", "1000", "100000", "1000000" })
+	public int numOfPolls;
+
+	private PollList pollList;
+
+	@Setup
+	public void setUp() {
+		Factory factory = new Factory(338, 2026);
+		factory.setPartyNames(PARTY_NAMES);
+		pollList = factory.createRandomPollList(numOfPolls);
+	}
+
+	/**
+	 * Averages one party over every poll.
+	 *
+	 * @return The average party, so it can't be optimized away.
+	 */
+	@Benchmark
+	public Party getAveragePartyData() {
+		return pollList.getAveragePartyData("Green");
+	}
+
+	/**
+	 * Averages every party over every poll.
+	 *
+	 * @return The average parties, so they can't be optimized away.
+	 */
+	@Benchmark
+	public Party[] getAggregatePoll() {
+		return pollList.averagePartyData(PARTY_NAMES, null);
+	}
+
+	/**
+	 * Gets the aggregate poll of an unchanged list, which after the first call
+	 * only copies the cached averages.
+	 *
+	 * @return The aggregate poll, so it can't be optimized away.
+	 */
+	@Benchmark
+	public Poll getAggregatePollCached() {
+		return pollList.getAggregatePoll(PARTY_NAMES);
+	}
+
+	/**
+	 * Draws every poll as rows of stars for seats.
+	 *
+	 * @return The visualization, so it can't be optimized away.
+	 */
+	@Benchmark
+	public String textVisualizationBySeats() {
+		return pollList.renderTextVisualization("seats");
+	}
+
+	/**
+	 * Draws every poll as rows of stars for votes.
+	 *
+	 * @return The visualization, so it can't be optimized away.
+	 */
+	@Benchmark
+	public String textVisualizationByVotes() {
+		return pollList.renderTextVisualization("votes");
+	}
+}
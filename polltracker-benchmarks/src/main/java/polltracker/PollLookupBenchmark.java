@@ -0,0 +1,85 @@
+package polltracker;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares looking up a party in a poll through the poll's name index against
+ * the linear equalsIgnoreCase scan over the parties array that Poll.getParty
+ * used to do.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PollLookupBenchmark {
+	@Param({ "5", "10", "50" })
+	public int numOfParties;
+
+	private Poll poll;
+	private String[] lookupNames;
+
+	@Setup
+	public void setUp() {
+		poll = new Poll("Benchmark poll", numOfParties);
+		lookupNames = new String[numOfParties];
+		for (int i = 0; i < numOfParties; i++) {
+			poll.addParty(new Party("Party " + i, i, 0.05f));
+
+			// Look the parties up with a different case than they were added with
+			lookupNames[i] = "PARTY " + i;
+		}
+	}
+
+	/**
+	 * Looks up every party in the poll through Poll.getParty.
+	 *
+	 * @return The number of parties found, so the lookups can't be optimized away.
+	 */
+	@Benchmark
+	public int indexedLookup() {
+		int found = 0;
+		for (String partyName : lookupNames) {
+			if (poll.getParty(partyName) != null) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Looks up every party in the poll by scanning the parties array, as
+	 * Poll.getParty did before the name index was added.
+	 *
+	 * @return The number of parties found, so the lookups can't be optimized away.
+	 */
+	@Benchmark
+	public int linearScanLookup() {
+		int found = 0;
+		for (String partyName : lookupNames) {
+			for (Party aParty : poll.getParties()) {
+				if (aParty != null && aParty.getName().equalsIgnoreCase(partyName)) {
+					found++;
+					break;
+				}
+			}
+		}
+		return found;
+	}
+}
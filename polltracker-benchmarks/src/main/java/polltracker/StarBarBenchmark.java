@@ -0,0 +1,76 @@
+package polltracker;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares drawing a star bar with Party.appendStarBar into a reused
+ * StringBuilder against the ArrayList based approach Party used before. Run
+ * with the gc profiler (-prof gc) to see the allocation rate per bar, which
+ * should be zero for appendStarBar.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StarBarBenchmark {
+	@Param({ "18", "100" })
+	public int maxStars;
+
+	private int numOfStars;
+	private StringBuilder out;
+
+	@Setup
+	public void setUp() {
+		numOfStars = maxStars * 2 / 3;
+		out = new StringBuilder(maxStars + 2);
+	}
+
+	/**
+	 * Draws the bar into the same StringBuilder every time.
+	 *
+	 * @return The StringBuilder, so the bar can't be optimized away.
+	 */
+	@Benchmark
+	public StringBuilder appendStarBar() {
+		out.setLength(0);
+		Party.appendStarBar(out, numOfStars, maxStars);
+		return out;
+	}
+
+	/**
+	 * Draws the bar the way Party.starArray did before appendStarBar was added.
+	 *
+	 * @return The bar, so it can't be optimized away.
+	 */
+	@Benchmark
+	public String arrayListStarBar() {
+		int barIndex = (int) Math.ceil(maxStars / 2.0);
+		ArrayList<String> starArray = new ArrayList<String>(maxStars + 2);
+		for (int i = 0; i < maxStars + 1; i++) {
+			starArray.add(i, " ");
+		}
+		for (int j = 0; j < numOfStars; j++) {
+			starArray.set(j, "*");
+		}
+		starArray.add(barIndex, "|");
+		return String.join("", starArray);
+	}
+}
@@ -0,0 +1,469 @@
+package polltracker;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Scanner;
+
+/**
+ * Displays a visual representation of a poll list based on user input. Polls
+ * can be user created or randomly generated.
+ * 
+ * When it is given command-line arguments the application runs in batch mode
+ * instead, without prompting: it loads polls from files, a snapshot or the
+ * Factory, writes the requested visualizations to stdout or a file in one pass
+ * and exits. Run it with --help for the options.
+ * 
+ * @author gabe
+ * @version 0.1
+ * @since 2021-12-06
+ */
+public class TextApplication {
+	private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+	private static final String USAGE = "Usage: TextApplication [options]\n"
+			+ "  --input FILE       Load polls from a CSV or JSON lines file (can be repeated)\n"
+			+ "  --snapshot FILE    Load polls from a snapshot file\n"
+			+ "  --random N         Generate N random polls (needs --parties)\n"
+			+ "  --seed S           Seed for the random polls\n"
+			+ "  --seats N          Number of seats in the election (taken from the snapshot if loaded)\n"
+			+ "  --parties A,B,...  Parties to aggregate (default: every party in the polls)\n"
+			+ "  --view all|aggregate  Polls to show (can be repeated, default aggregate)\n"
+			+ "  --by seats|votes   Data to visualize (can be repeated, default seats)\n"
+			+ "  --output FILE      Write to a file instead of stdout\n"
+			+ "With no options the application asks for everything it needs.";
+
+	private PollList polls;
+	private Scanner myScanner;
+
+	/**
+	 * This method provides a text visualization of the parties in a given poll's
+	 * data based on the amount of seats the parties will win.
+	 * 
+	 * @param aPoll The poll to display in the visualization.
+	 */
+	public void displayPollDataBySeat(Poll aPoll) {
+		int seatsPerStar = this.polls.getAmountPerStar("seats");
+		System.out.println(aPoll.textVisualizationBySeats(this.polls.MAX_STARS_FOR_VISUALIZATION, seatsPerStar));
+		return;
+	}
+
+	/**
+	 * Provides a text visualization of the each poll in the poll list based in the
+	 * amount of projected seats for each party.
+	 * 
+	 * @param partyNames The parties to display in the visualization.
+	 */
+	public void displayPollsBySeat(String[] partyNames) {
+		// The list keeps its visualization until a poll or party changes, so showing
+		// all the polls again doesn't render them again
+		System.out.print(this.polls.textVisualizationBySeats());
+
+		displayPollDataBySeat(polls.getAggregatePoll(partyNames));
+		return;
+	}
+
+	/**
+	 * This method provides a text visualization of a given poll's data based on the
+	 * amount of votes the parties receive
+	 * 
+	 * @param aPoll The poll to display.
+	 */
+	public void displayPollDataByVote(Poll aPoll) {
+		int percentPerStar = this.polls.getAmountPerStar("votes");
+		System.out.println(aPoll.textVisualizationByVotes(this.polls.MAX_STARS_FOR_VISUALIZATION, percentPerStar));
+		return;
+	}
+
+	/**
+	 * Provides a text visualization of the each poll in the poll list based in the
+	 * amount of votes for each party.
+	 * 
+	 * @param partyNames The names of the parties to display in the visualization.
+	 */
+	public void displayPollsByVote(String[] partyNames) {
+		// The list keeps its visualization until a poll or party changes, so showing
+		// all the polls again doesn't render them again
+		System.out.print(this.polls.textVisualizationByVotes());
+
+		displayPollDataByVote(polls.getAggregatePoll(partyNames));
+	}
+
+	/**
+	 * Runs the program, calling the appropriate methods to create different
+	 * visualizations of polls based on the user's input.
+	 */
+	private void run() {
+		myScanner = new Scanner(System.in);
+
+		// The following statements prompt the user for the number of seats, party
+		// names, number of polls, allows the user to create polls manually or randomly,
+		// and allows the user to choose to display the parties by seats or votes.
+		prompt("How many seats are available in the election? ");
+		int numOfSeats = myScanner.nextInt();
+
+		prompt("Which parties are in the election (provide names, comma separated):" + System.lineSeparator());
+		String partyNames = myScanner.next();
+		String[] partyNamesArray = partyNames.split(",", -1);
+
+		prompt("How many polls do you want to track with this application? ");
+		int numOfPolls = myScanner.nextInt();
+
+		prompt("Would you like me to create a random set of polls? ");
+		String createRandomPolls = myScanner.next().toLowerCase();
+
+		prompt("Would you like to visualize by seats or by votes? ");
+		String visualizationMode = myScanner.next().toLowerCase();
+
+		// sets the choice to true to indicate random polls or false for user created.
+		boolean choice = true;
+		if (createRandomPolls.equals("yes"))
+			choice = true;
+		else if (createRandomPolls.equals("no"))
+			choice = false;
+
+		createPollsRandomOrManually(choice, numOfSeats, partyNamesArray, numOfPolls);
+
+		// The display method will be called repeatedly until the user enters "quit"
+		// inside the display method.
+		boolean running = true;
+		while (running)
+			running = display(visualizationMode, partyNamesArray);
+		myScanner.close();
+	}
+
+	/**
+	 * Creates and runs the text application, in batch mode if there are any
+	 * arguments.
+	 * 
+	 * @param args The batch mode options, or none to run interactively.
+	 */
+	public static void main(String[] args) {
+		TextApplication aTextApplication = new TextApplication();
+		if (args.length > 0) {
+			int status = aTextApplication.runBatch(args);
+			if (status != 0)
+				System.exit(status);
+			return;
+		}
+		System.out.println("Welcome to the poll tracker");
+		aTextApplication.run();
+	}
+
+	/**
+	 * Runs the program without prompting. The polls are loaded once and every
+	 * requested visualization is written from them, through one buffered writer.
+	 * Errors, including those reported to Diagnostics, go to stderr so they don't mix
+	 * with the visualizations on stdout.
+	 * 
+	 * @param args The options, as described in USAGE.
+	 * @return 0 if the visualizations were written, 1 if the polls couldn't be
+	 *         loaded or written, or 2 if the options were wrong.
+	 */
+	int runBatch(String[] args) {
+		ArrayList<Path> inputs = new ArrayList<Path>();
+		ArrayList<String> views = new ArrayList<String>();
+		ArrayList<String> modes = new ArrayList<String>();
+		Path snapshot = null;
+		Path output = null;
+		String[] partyNamesArray = null;
+		int numOfSeats = 0;
+		int numOfRandomPolls = 0;
+		Long seed = null;
+
+		for (int arg = 0; arg < args.length; arg++) {
+			String option = args[arg];
+			if (option.equals("--help")) {
+				System.out.println(USAGE);
+				return 0;
+			}
+			if (arg + 1 == args.length) {
+				System.err.println("Error, " + option + " needs a value\n" + USAGE);
+				return 2;
+			}
+			String value = args[++arg];
+			try {
+				switch (option) {
+				case "--input":
+					inputs.add(Paths.get(value));
+					break;
+				case "--snapshot":
+					snapshot = Paths.get(value);
+					break;
+				case "--random":
+					numOfRandomPolls = Integer.parseInt(value);
+					break;
+				case "--seed":
+					seed = Long.parseLong(value);
+					break;
+				case "--seats":
+					numOfSeats = Integer.parseInt(value);
+					break;
+				case "--parties":
+					partyNamesArray = value.split(",", -1);
+					break;
+				case "--view":
+					if (!value.equals("all") && !value.equals("aggregate")) {
+						System.err.println("Error, --view must be all or aggregate");
+						return 2;
+					}
+					views.add(value);
+					break;
+				case "--by":
+					if (!value.equals("seats") && !value.equals("votes")) {
+						System.err.println("Error, --by must be seats or votes");
+						return 2;
+					}
+					modes.add(value);
+					break;
+				case "--output":
+					output = Paths.get(value);
+					break;
+				default:
+					System.err.println("Error, unknown option " + option + "\n" + USAGE);
+					return 2;
+				}
+			} catch (NumberFormatException e) {
+				System.err.println("Error, " + option + " must be a whole number");
+				return 2;
+			}
+		}
+		if (views.isEmpty())
+			views.add("aggregate");
+		if (modes.isEmpty())
+			modes.add("seats");
+
+		if (snapshot == null && inputs.isEmpty() && numOfRandomPolls < 1) {
+			System.err.println("Error, there are no polls to load, give --input, --snapshot or --random\n" + USAGE);
+			return 2;
+		}
+		if (snapshot == null && numOfSeats < 1) {
+			System.err.println("Error, --seats must be given and greater than zero");
+			return 2;
+		}
+		if (numOfRandomPolls > 0 && partyNamesArray == null) {
+			System.err.println("Error, --random needs --parties");
+			return 2;
+		}
+
+		Diagnostics.setSink(System.err::println);
+		try {
+			this.loadPolls(snapshot, inputs, numOfSeats, partyNamesArray, numOfRandomPolls, seed);
+			if (partyNamesArray == null)
+				partyNamesArray = this.partyNamesInPolls();
+
+			Writer out = output == null
+					? new BufferedWriter(new OutputStreamWriter(System.out), OUTPUT_BUFFER_SIZE)
+					: Files.newBufferedWriter(output);
+			try {
+				boolean withHeadings = views.size() * modes.size() > 1;
+				for (String view : views) {
+					for (String mode : modes) {
+						if (withHeadings)
+							out.append("== ").append(view).append(" by ").append(mode).append(" ==\n");
+						this.writeView(out, view, mode, partyNamesArray);
+					}
+				}
+			} finally {
+				// Leave stdout open for anything that runs after
+				if (output == null)
+					out.flush();
+				else
+					out.close();
+			}
+		} catch (IOException e) {
+			System.err.println("Error, " + e);
+			return 1;
+		} finally {
+			Diagnostics.flush();
+		}
+		return 0;
+	}
+
+	/**
+	 * Loads the polls for batch mode into a ColumnarPollList, which holds large
+	 * lists without a Poll or Party object per poll.
+	 * 
+	 * @param snapshot         A snapshot to start from, or null.
+	 * @param inputs           CSV or JSON lines files to add.
+	 * @param numOfSeats       The number of seats, if there is no snapshot.
+	 * @param partyNamesArray  The parties for random polls.
+	 * @param numOfRandomPolls The number of random polls to generate first.
+	 * @param seed             The seed for the random polls, or null for any.
+	 * @throws IOException If a file can't be read.
+	 */
+	private void loadPolls(Path snapshot, ArrayList<Path> inputs, int numOfSeats, String[] partyNamesArray,
+			int numOfRandomPolls, Long seed) throws IOException {
+		if (snapshot != null) {
+			this.polls = PollListSnapshot.read(snapshot);
+		} else if (numOfRandomPolls > 0) {
+			Factory pollFactory = seed == null ? new Factory(numOfSeats) : new Factory(numOfSeats, seed);
+			pollFactory.setPartyNames(partyNamesArray);
+			this.polls = pollFactory.createRandomColumnarPollList(numOfRandomPolls);
+		} else {
+			this.polls = new ColumnarPollList(OUTPUT_BUFFER_SIZE, numOfSeats);
+		}
+		for (Path input : inputs) {
+			new PollFileReader(this.polls).read(input);
+		}
+	}
+
+	/**
+	 * Finds the name of every party in the polls, in the order they first appear,
+	 * matching names that only differ in case.
+	 * 
+	 * @return The party names.
+	 */
+	private String[] partyNamesInPolls() {
+		LinkedHashMap<String, String> partyNames = new LinkedHashMap<String, String>();
+		Poll[] pollArray = this.polls.toArray();
+		for (int poll = 0; poll < this.polls.getNumOfPolls(); poll++) {
+			Party[] parties = pollArray[poll].getParties();
+			for (int party = 0; party < pollArray[poll].getNumberOfParties(); party++) {
+				partyNames.putIfAbsent(Poll.foldName(parties[party].getName()), parties[party].getName());
+			}
+		}
+		return partyNames.values().toArray(new String[partyNames.size()]);
+	}
+
+	/**
+	 * Writes one visualization for batch mode: every poll followed by the
+	 * aggregate for "all", or only the aggregate for "aggregate", the same as the
+	 * interactive options.
+	 * 
+	 * @param out             Where to write the visualization.
+	 * @param view            Either "all" or "aggregate".
+	 * @param seatsOrVotes    Either "seats" or "votes".
+	 * @param partyNamesArray The parties to aggregate.
+	 * @throws IOException If writing to out fails.
+	 */
+	private void writeView(Writer out, String view, String seatsOrVotes, String[] partyNamesArray)
+			throws IOException {
+		if (view.equals("all"))
+			this.polls.writeTextVisualization(out, seatsOrVotes);
+		Poll aggregate = this.polls.getAggregatePoll(partyNamesArray);
+		int amountPerStar = this.polls.getAmountPerStar(seatsOrVotes);
+		if (seatsOrVotes.equals("seats"))
+			out.append(aggregate.textVisualizationBySeats(this.polls.MAX_STARS_FOR_VISUALIZATION, amountPerStar));
+		else
+			out.append(aggregate.textVisualizationByVotes(this.polls.MAX_STARS_FOR_VISUALIZATION, amountPerStar));
+		out.append('\n');
+	}
+
+	/**
+	 * Writes a prompt for the user, after any errors reported so far. Errors are
+	 * written in the background, so they need to come out before the prompt for
+	 * the next input or they could appear after it.
+	 *
+	 * @param text The prompt to write.
+	 */
+	private static void prompt(String text) {
+		Diagnostics.flush();
+		System.out.print(text);
+	}
+
+	/**
+	 * Prompts the user for all the information needed to create a new set of polls.
+	 *
+	 * @param partyNamesArray The parameter is an array of all the party names,
+	 *                        which the user has already provided
+	 */
+	private void promptForPollList(String[] partyNamesArray) {
+		// Takes input for each party in each poll and each poll in the poll list.
+		for (int i = 0; i < this.polls.toArray().length; i++) {
+			prompt("Enter the name of poll " + (i + 1) + ": ");
+			String name = myScanner.next();
+			Poll pollToAdd = new Poll(name, partyNamesArray.length);
+			for (String partyName : partyNamesArray) {
+				prompt("Enter the expected number of seats for " + partyName + ": ");
+				float expectedSeats = myScanner.nextFloat();
+				prompt("Enter the expected percentage of the vote for " + partyName + ": ");
+				float expectedVotes = myScanner.nextFloat();
+				pollToAdd.addParty(new Party(partyName, expectedSeats, expectedVotes));
+			}
+			this.polls.addPoll(pollToAdd);
+		}
+	}
+
+	/**
+	 * Takes user input for the option of visualization to print and displays it.
+	 * 
+	 * @param visualizationMode The method to display visuals, either by votes or
+	 *                          seats.
+	 * @param partyNamesArray   The names the parties that will be displayed.
+	 * @return A boolean value indicating whether the function should be called
+	 *         again or quit out the program.
+	 * 
+	 */
+	private boolean display(String visualizationMode, String[] partyNamesArray) {
+
+		boolean keepRunning = true;
+		prompt("\nOptions: all (show result of all polls), aggregate (show aggregate result), "
+				+ "quit (end application) \nChoose an option: ");
+		String optionSelected = myScanner.next().toLowerCase();
+
+		// Calls the appropriate display method based on previously entered options
+		// (seat/vote & aggregate/all/quit)
+		switch (optionSelected) {
+		case "aggregate":
+			if (visualizationMode.equals("seats"))
+				displayPollDataBySeat(this.polls.getAggregatePoll(partyNamesArray));
+			if (visualizationMode.equals("votes"))
+				displayPollDataByVote(this.polls.getAggregatePoll(partyNamesArray));
+			break;
+		case "all":
+			if (visualizationMode.equals("seats"))
+				displayPollsBySeat(partyNamesArray);
+			if (visualizationMode.equals("votes"))
+				displayPollsByVote(partyNamesArray);
+			break;
+		case "quit":
+			keepRunning = false;
+			break;
+		}
+		return keepRunning;
+	}
+
+	/**
+	 * Uses the Factory class to generate a random poll list to be used in the
+	 * election visualization.
+	 * 
+	 * @param numOfSeats      The number of seats available in the election.
+	 * @param partyNamesArray The parties to be added to each poll.
+	 * @param numOfPolls      The number of polls to be added to the list.
+	 */
+	private void createRandomPoll(int numOfSeats, String[] partyNamesArray, int numOfPolls) {
+		Factory pollFactory = new Factory(numOfSeats);
+		pollFactory.setPartyNames(partyNamesArray);
+		this.polls = pollFactory.createRandomPollList(numOfPolls);
+	}
+
+	/**
+	 * Calls the appropriate method to either create polls randomly or from user
+	 * input. This method does not take any user input directly, instead prior
+	 * entered input must be passed in as parameters.
+	 * 
+	 * @param choice          Either true, indicating random polls must be
+	 *                        generated, or false, allowing for user entered polls.
+	 * @param numOfSeats      The number of seats that will be available in the poll
+	 *                        list.
+	 * @param partyNamesArray The names of the parties to be included in the polls.
+	 * @param numOfPolls      The number of polls to create.
+	 */
+	private void createPollsRandomOrManually(boolean choice, int numOfSeats, String[] partyNamesArray, int numOfPolls) {
+		// This is for if the user chooses to generate polls randomly
+		if (choice)
+			createRandomPoll(numOfSeats, partyNamesArray, numOfPolls);
+
+		// This is for if the user wants to generate the polls manually
+		else {
+			this.polls = new PollList(numOfPolls, numOfSeats);
+			promptForPollList(partyNamesArray);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TextApplicationTest {
+	private Path input;
+	private Path output;
+
+	@Before
+	public void setUp() throws IOException {
+		input = Files.createTempFile("polls", ".csv");
+		output = Files.createTempFile("visualization", ".txt");
+		Files.write(input, ("poll,party,seats,votes\n" + "Poll A,Liberal,150,0.34\n" + "Poll A,Conservative,120,0.30\n"
+				+ "Poll B,liberal,160,0.36\n" + "Poll B,Conservative,110,0.29\n").getBytes(StandardCharsets.UTF_8));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(input);
+		Files.deleteIfExists(output);
+	}
+
+	@Test
+	public void test_runBatch_aggregate() throws IOException {
+		int status = new TextApplication().runBatch(
+				new String[] { "--seats", "338", "--input", input.toString(), "--output", output.toString() });
+		assertEquals(0, status);
+
+		String written = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+		assertTrue("Expected only the aggregate poll, got " + written, written.startsWith("Aggregate\n"));
+		assertTrue("Expected parties from the file, matched ignoring case",
+				written.contains("Liberal (35% of votes, 155.0 seats)"));
+		assertFalse(written.contains("Poll A"));
+	}
+
+	@Test
+	public void test_runBatch_allViews() throws IOException {
+		int status = new TextApplication().runBatch(new String[] { "--seats", "338", "--input", input.toString(),
+				"--view", "all", "--by", "seats", "--by", "votes", "--output", output.toString() });
+		assertEquals(0, status);
+
+		String written = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+		assertTrue(written.startsWith("== all by seats ==\nPoll A\n"));
+		assertTrue(written.contains("== all by votes ==\nPoll A\n"));
+		assertEquals("Expected the aggregate after the polls for both seats and votes", 3,
+				written.split("\nAggregate\n", -1).length);
+	}
+
+	@Test
+	public void test_runBatch_randomPollsWithSeed() throws IOException {
+		String[] args = { "--seats", "100", "--random", "50", "--seed", "7", "--parties", "A,B,C", "--output",
+				output.toString() };
+		assertEquals(0, new TextApplication().runBatch(args));
+		String first = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+		assertEquals(0, new TextApplication().runBatch(args));
+		String second = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+		assertEquals("Expected the same polls from the same seed", first, second);
+	}
+
+	@Test
+	public void test_runBatch_badOptions() {
+		TextApplication app = new TextApplication();
+		assertEquals(2, app.runBatch(new String[] { "--seats", "338", "--input", input.toString(), "--view", "x" }));
+		assertEquals(2, app.runBatch(new String[] { "--seats", "many", "--input", input.toString() }));
+		assertEquals(2, app.runBatch(new String[] { "--seats", "338" }));
+		assertEquals(2, app.runBatch(new String[] { "--input", input.toString() }));
+		assertEquals(2, app.runBatch(new String[] { "--seats", "338", "--random", "5" }));
+		assertEquals(2, app.runBatch(new String[] { "--unknown", "1" }));
+	}
+
+	@Test
+	public void test_runBatch_missingFile() {
+		assertEquals(1, new TextApplication().runBatch(
+				new String[] { "--seats", "338", "--input", input.toString() + ".missing" }));
+	}
+}
@@ -0,0 +1,53 @@
+package polltracker;
+
+import java.lang.ref.SoftReference;
+
+/**
+ * A text visualization remembered along with what it was rendered from: the
+ * maximum number of stars, the amount each star stands for, and a stamp that
+ * changes whenever the poll or list being rendered changes. The text is only
+ * reused while all three are the same.
+ *
+ * The text is held through a SoftReference, so the cached visualizations of a
+ * large list can be reclaimed when memory runs low instead of doubling the size
+ * of the list. A CachedRender never changes once it has been created, so
+ * threads that share one can't see it half written.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class CachedRender {
+	private final int maxStars;
+	private final double amountPerStar;
+	private final long stamp;
+	private final SoftReference<String> text;
+
+	/**
+	 * Remembers a rendered visualization.
+	 *
+	 * @param maxStars      The maximum number of stars it was rendered with.
+	 * @param amountPerStar The seats or percentage of votes each star stands for.
+	 * @param stamp         The stamp of what was rendered.
+	 * @param text          The visualization.
+	 */
+	CachedRender(int maxStars, double amountPerStar, long stamp, String text) {
+		this.maxStars = maxStars;
+		this.amountPerStar = amountPerStar;
+		this.stamp = stamp;
+		this.text = new SoftReference<String>(text);
+	}
+
+	/**
+	 * Gets the visualization if it was rendered the same way from the same data.
+	 *
+	 * @param maxStars      The maximum number of stars.
+	 * @param amountPerStar The seats or percentage of votes each star stands for.
+	 * @param stamp         The current stamp of what is being rendered.
+	 * @return The visualization, or null if it has to be rendered again.
+	 */
+	String get(int maxStars, double amountPerStar, long stamp) {
+		if (this.maxStars != maxStars || this.amountPerStar != amountPerStar || this.stamp != stamp)
+			return null;
+		return this.text.get();
+	}
+}
@@ -0,0 +1,413 @@
+package polltracker;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A PollList that stores its polls as columns of primitive values instead of
+ * Poll and Party objects. Every party name is stored as its id in the list's
+ * PartyDictionary, and the parties of every poll are stored one after
+ * another in parallel columns: party ids, projected seats, projected shares of
+ * the vote and colours. The parties of poll i are the entries from
+ * pollStart[i] up to pollStart[i + 1].
+ *
+ * Averages and aggregate polls are computed by scanning the columns, keeping
+ * totals for every party id. The running totals, the record of which polls
+ * each party is in and the sketches are the ones PollList keeps, added to by
+ * party id as polls are added.
+ * Poll and Party objects are only created when a poll is asked for, and they
+ * are copies, so changing them doesn't change the list. Party names are
+ * matched ignoring case, the same as in Poll, and every poll shows a party with
+ * the spelling of its name that was added first.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ColumnarPollList extends PollList {
+	private static final int INITIAL_CAPACITY = 16;
+	// The day stored for a poll without a date.
+	static final int NO_DATE = Integer.MIN_VALUE;
+
+	// The first spelling in this list of each party, indexed by dictionary id,
+	// or null for parties that aren't in the list.
+	private String[] partyNames = new String[INITIAL_CAPACITY];
+	// One more than the highest party id in the list, the size of totals indexed
+	// by id.
+	private int partyIdLimit = 0;
+
+	// One entry per poll
+	private String[] pollNames;
+	// The day each poll was taken, as in LocalDate.toEpochDay, or NO_DATE
+	private int[] pollDays;
+	// The number of people asked in each poll, or 0 if it isn't known
+	private int[] pollSampleSizes;
+	private int[] pollStart;
+	private int pollsInList = 0;
+
+	// One entry per party in each poll
+	private int[] partyIdColumn;
+	private float[] seatsColumn;
+	private float[] votesColumn;
+	// The colour of each party packed as in Party.getColourRgb, for the entries
+	// set in colouredEntries
+	private int[] colourColumn;
+	private BitSet colouredEntries = new BitSet();
+	private int numOfEntries = 0;
+
+	/**
+	 * Creates a new, empty ColumnarPollList with room for a number of polls and a
+	 * number of seats. The list grows if more polls are added.
+	 *
+	 * @param numOfPolls The number of polls to make room for.
+	 * @param numOfSeats The number of seats available in the election.
+	 */
+	public ColumnarPollList(int numOfPolls, int numOfSeats) {
+		this(numOfPolls, numOfSeats, new PartyDictionary());
+	}
+
+	/**
+	 * Creates a new, empty ColumnarPollList whose parties are given ids by a
+	 * dictionary, which can be shared with other lists.
+	 *
+	 * @param numOfPolls The number of polls to make room for.
+	 * @param numOfSeats The number of seats available in the election.
+	 * @param dictionary The dictionary that gives the parties their ids.
+	 */
+	public ColumnarPollList(int numOfPolls, int numOfSeats, PartyDictionary dictionary) {
+		super(1, numOfSeats, dictionary);
+		if (numOfPolls < 1)
+			numOfPolls = 5;
+		this.pollNames = new String[numOfPolls];
+		this.pollDays = new int[numOfPolls];
+		this.pollSampleSizes = new int[numOfPolls];
+		this.pollStart = new int[numOfPolls + 1];
+		this.partyIdColumn = new int[numOfPolls * 4];
+		this.seatsColumn = new float[numOfPolls * 4];
+		this.votesColumn = new float[numOfPolls * 4];
+		this.colourColumn = new int[numOfPolls * 4];
+	}
+
+	/**
+	 * Gets the number of polls that have been added to the list.
+	 *
+	 * @return The number of polls in the list.
+	 */
+	public int getNumOfPolls() {
+		return this.pollsInList;
+	}
+
+	/**
+	 * Counts the polls in the list that a party is in.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The number of polls the party is in.
+	 */
+	public int getNumOfPollsWithParty(String partyName) {
+		return this.membership().count(this.findPartyId(partyName));
+	}
+
+	/**
+	 * Gets a stamp of the polls in the list. The list keeps its own copy of each
+	 * poll, which can't be changed, so the stamp only changes when a poll is added.
+	 *
+	 * @return The stamp.
+	 */
+	long renderStamp() {
+		return this.pollsInList;
+	}
+
+	/**
+	 * Creates a copy of every poll in the list.
+	 *
+	 * @return The polls in the list.
+	 */
+	public Poll[] toArray() {
+		Poll[] polls = new Poll[this.pollsInList];
+		for (int poll = 0; poll < this.pollsInList; poll++) {
+			polls[poll] = this.getPoll(poll);
+		}
+		return polls;
+	}
+
+	/**
+	 * Creates the poll at a position for a scan over the list, one poll at a time
+	 * rather than all of them at once.
+	 *
+	 * @param index The position of the poll in the list.
+	 * @return The poll.
+	 */
+	Poll scanPoll(int index) {
+		return this.getPoll(index);
+	}
+
+	/**
+	 * Creates a copy of one poll in the list.
+	 *
+	 * @param index The position of the poll in the list.
+	 * @return The poll, or null if there is no poll at that position.
+	 */
+	public Poll getPoll(int index) {
+		if (index < 0 || index >= this.pollsInList)
+			return null;
+		int start = this.pollStart[index];
+		int end = this.pollStart[index + 1];
+		Poll aPoll = new Poll(this.pollNames[index], end - start, this.getPollDate(index), this.getDictionary());
+		aPoll.setSampleSize(this.pollSampleSizes[index]);
+		for (int entry = start; entry < end; entry++) {
+			Party party = new Party(this.partyNames[this.partyIdColumn[entry]], this.seatsColumn[entry],
+					this.votesColumn[entry]);
+			if (this.colouredEntries.get(entry))
+				party.setColourArgb(this.colourColumn[entry]);
+			aPoll.addParty(party);
+		}
+		return aPoll;
+	}
+
+	/**
+	 * Adds the parties of a poll to the end of the columns. The list keeps a copy
+	 * of the poll, so parties added to or replaced in the poll afterwards don't
+	 * change the list.
+	 *
+	 * @param aPoll The poll to add.
+	 */
+	public void addPoll(Poll aPoll) {
+		if (aPoll == null) {
+			Diagnostics.report(Diagnostics.Problem.NULL_POLL);
+			return;
+		}
+		Party[] parties = aPoll.getParties();
+		int numOfParties = aPoll.getNumberOfParties();
+		int day = aPoll.getDate() == null ? NO_DATE : (int) aPoll.getDate().toEpochDay();
+		this.startPoll(aPoll.getPollName(), day, aPoll.getSampleSize(), numOfParties);
+		for (int party = 0; party < numOfParties; party++) {
+			int entry = this.numOfEntries++;
+			this.partyIdColumn[entry] = this.partyId(parties[party].getName());
+			this.seatsColumn[entry] = parties[party].getProjectedNumberOfSeats();
+			this.votesColumn[entry] = parties[party].getProjectedPercentageOfVotes();
+			if (parties[party].hasColour()) {
+				this.colourColumn[entry] = parties[party].getColourRgb();
+				this.colouredEntries.set(entry);
+			}
+			this.runningSums().add(this.partyIdColumn[entry], this.seatsColumn[entry], this.votesColumn[entry]);
+			this.membership().add(this.partyIdColumn[entry], this.pollsInList - 1);
+			this.quantiles().add(this.partyIdColumn[entry], this.seatsColumn[entry], this.votesColumn[entry]);
+		}
+		this.pollStart[this.pollsInList] = this.numOfEntries;
+		this.addEntriesToDatedSums(day, this.numOfEntries - numOfParties);
+	}
+
+	/**
+	 * Adds a poll that is already split into columns, such as one read from a
+	 * snapshot. Its parties have no colours.
+	 *
+	 * @param pollName     The name of the poll.
+	 * @param day          The day the poll was taken, or NO_DATE.
+	 * @param sampleSize   The number of people asked in the poll, or 0.
+	 * @param numOfParties The number of parties in the poll.
+	 * @param ids          The dictionary ids of the parties, from partyId.
+	 * @param seats        The projected seats of each party.
+	 * @param votes        The projected share of the vote of each party.
+	 */
+	void addPoll(String pollName, int day, int sampleSize, int numOfParties, int[] ids, float[] seats,
+			float[] votes) {
+		this.startPoll(pollName, day, sampleSize, numOfParties);
+		System.arraycopy(ids, 0, this.partyIdColumn, this.numOfEntries, numOfParties);
+		System.arraycopy(seats, 0, this.seatsColumn, this.numOfEntries, numOfParties);
+		System.arraycopy(votes, 0, this.votesColumn, this.numOfEntries, numOfParties);
+		for (int party = 0; party < numOfParties; party++) {
+			this.runningSums().add(ids[party], seats[party], votes[party]);
+			this.membership().add(ids[party], this.pollsInList - 1);
+			this.quantiles().add(ids[party], seats[party], votes[party]);
+		}
+		this.numOfEntries += numOfParties;
+		this.pollStart[this.pollsInList] = this.numOfEntries;
+		this.addEntriesToDatedSums(day, this.numOfEntries - numOfParties);
+	}
+
+	/**
+	 * Gets the day a poll was taken.
+	 *
+	 * @param index The position of the poll in the list.
+	 * @return The date of the poll, or null if it has no date.
+	 */
+	private LocalDate getPollDate(int index) {
+		if (this.pollDays[index] == NO_DATE)
+			return null;
+		return LocalDate.ofEpochDay(this.pollDays[index]);
+	}
+
+	/**
+	 * Adds the entries of the last poll, from an entry to the end of the columns,
+	 * to the dated totals.
+	 */
+	private void addEntriesToDatedSums(int day, int start) {
+		if (day == NO_DATE)
+			return;
+		for (int entry = start; entry < this.numOfEntries; entry++) {
+			this.addToDatedSums(day, DatedPartySums.entry(this.pollsInList - 1, entry - start),
+					this.partyNames[this.partyIdColumn[entry]], this.seatsColumn[entry], this.votesColumn[entry]);
+		}
+	}
+
+	/**
+	 * Gets the dictionary id of a party name, adding the name to the dictionary if
+	 * it isn't there yet, and remembering the spelling if the party is new to the
+	 * list.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The id of the party.
+	 */
+	int partyId(String partyName) {
+		int id = this.getDictionary().getId(partyName);
+		if (id >= this.partyNames.length)
+			this.partyNames = Arrays.copyOf(this.partyNames, Math.max(id + 1, this.partyNames.length * 2));
+		if (this.partyNames[id] == null)
+			this.partyNames[id] = partyName;
+		if (id >= this.partyIdLimit)
+			this.partyIdLimit = id + 1;
+		return id;
+	}
+
+	/**
+	 * Finds the dictionary id of a party in the list.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The id of the party, or -1 if it isn't in any poll in the list.
+	 */
+	private int findPartyId(String partyName) {
+		int id = this.getDictionary().findId(partyName);
+		if (id < 0 || id >= this.partyIdLimit || this.partyNames[id] == null)
+			return -1;
+		return id;
+	}
+
+	/**
+	 * Adds a poll name and makes room in the columns for its parties.
+	 */
+	private void startPoll(String pollName, int day, int sampleSize, int numOfParties) {
+		if (this.pollsInList == this.pollNames.length) {
+			this.pollNames = Arrays.copyOf(this.pollNames, this.pollNames.length * 2);
+			this.pollDays = Arrays.copyOf(this.pollDays, this.pollNames.length);
+			this.pollSampleSizes = Arrays.copyOf(this.pollSampleSizes, this.pollNames.length);
+			this.pollStart = Arrays.copyOf(this.pollStart, this.pollNames.length + 1);
+		}
+		int needed = this.numOfEntries + numOfParties;
+		if (needed > this.partyIdColumn.length) {
+			int newLength = Math.max(needed, this.partyIdColumn.length * 2);
+			this.partyIdColumn = Arrays.copyOf(this.partyIdColumn, newLength);
+			this.seatsColumn = Arrays.copyOf(this.seatsColumn, newLength);
+			this.votesColumn = Arrays.copyOf(this.votesColumn, newLength);
+			this.colourColumn = Arrays.copyOf(this.colourColumn, newLength);
+		}
+		this.pollNames[this.pollsInList] = pollName;
+		this.pollDays[this.pollsInList] = day;
+		this.pollSampleSizes[this.pollsInList] = sampleSize;
+		this.pollStart[this.pollsInList] = this.numOfEntries;
+		this.pollsInList++;
+	}
+
+	/**
+	 * See the overall performance of a party across all polls that the party is
+	 * included in, read from totals kept up to date as polls are added.
+	 *
+	 * @param partyName The name of the party to find average data for.
+	 * @return Party The average party data of the party.
+	 */
+	public Party getRunningAveragePartyData(String partyName) {
+		return this.runningSums().average(partyName, this.findPartyId(partyName));
+	}
+
+	/**
+	 * Writes a visual representation of each poll to a Writer, StringBuilder or
+	 * other Appendable, creating one poll at a time.
+	 *
+	 * @param out          Where to write the visualization.
+	 * @param seatsOrVotes Either "seats" or "votes", the data to visualize.
+	 * @throws IOException If writing to out fails.
+	 */
+	public void writeTextVisualization(Appendable out, String seatsOrVotes) throws IOException {
+		int amountPerStar = this.getAmountPerStar(seatsOrVotes);
+		for (int poll = 0; poll < this.pollsInList; poll++) {
+			Poll aPoll = this.getPoll(poll);
+			if (seatsOrVotes.equals("seats"))
+				out.append(aPoll.textVisualizationBySeats(this.MAX_STARS_FOR_VISUALIZATION, amountPerStar));
+			else
+				out.append(aPoll.textVisualizationByVotes(this.MAX_STARS_FOR_VISUALIZATION, amountPerStar));
+			out.append('\n');
+		}
+	}
+
+	/**
+	 * Adds the entries of every poll with a sample size to a set of statistics,
+	 * with one scan over the columns.
+	 * 
+	 * @param partyNames The names of the parties, in the order of their positions
+	 *                   in the statistics.
+	 * @param stats      The statistics to add to.
+	 */
+	void addVoteStats(String[] partyNames, WeightedVoteStats stats) {
+		// The position in the statistics of each party id, or -1 if the party isn't
+		// wanted
+		int[] positions = new int[this.partyIdLimit];
+		Arrays.fill(positions, -1);
+		for (int partyName = 0; partyName < partyNames.length; partyName++) {
+			int id = this.findPartyId(partyNames[partyName]);
+			if (id >= 0 && positions[id] < 0)
+				positions[id] = partyName;
+		}
+		for (int poll = 0; poll < this.pollsInList; poll++) {
+			int sampleSize = this.pollSampleSizes[poll];
+			if (sampleSize == 0)
+				continue;
+			for (int entry = this.pollStart[poll]; entry < this.pollStart[poll + 1]; entry++) {
+				int position = positions[this.partyIdColumn[entry]];
+				if (position >= 0)
+					stats.add(position, this.seatsColumn[entry], this.votesColumn[entry], sampleSize);
+			}
+		}
+	}
+
+	/**
+	 * Creates empty totals for every party in the list, indexed by id.
+	 * 
+	 * @param partyNames The names of the parties being averaged.
+	 * @return Totals with one position for each party id.
+	 */
+	PartySums newSums(String[] partyNames) {
+		return new PartySums(this.partyIdLimit);
+	}
+
+	/**
+	 * Adds the entries of one chunk of polls to a set of totals indexed by party
+	 * id, with one scan over the columns.
+	 * 
+	 * @param partyNames The names of the parties being averaged.
+	 * @param chunk      The chunk of polls to add.
+	 * @param numOfPolls The number of polls being averaged.
+	 * @param sums       The totals to add to, from newSums.
+	 */
+	void sumChunk(String[] partyNames, int chunk, int numOfPolls, PartySums sums) {
+		int start = this.pollStart[chunk * POLLS_PER_CHUNK];
+		int end = this.pollStart[Math.min(numOfPolls, (chunk + 1) * POLLS_PER_CHUNK)];
+		for (int entry = start; entry < end; entry++) {
+			sums.add(this.partyIdColumn[entry], this.seatsColumn[entry], this.votesColumn[entry]);
+		}
+	}
+
+	/**
+	 * Creates the average party data of each party from totals indexed by id.
+	 * 
+	 * @param partyNames The names of the parties being averaged.
+	 * @param sums       The totals over all the polls, from newSums.
+	 * @return The average party data, in the same order as partyNames.
+	 */
+	Party[] averageParties(String[] partyNames, PartySums sums) {
+		Party[] avgParties = new Party[partyNames.length];
+		for (int partyName = 0; partyName < partyNames.length; partyName++) {
+			avgParties[partyName] = sums.average(partyNames[partyName], this.findPartyId(partyNames[partyName]));
+		}
+		return avgParties;
+	}
+}
@@ -0,0 +1,349 @@
+package polltracker;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A PollList that one or more threads can add polls to while other threads
+ * read it, without any locks. Polls are stored in buckets that double in size,
+ * so the list grows without ever copying or moving a poll that readers might
+ * be looking at. A writer claims the next position with an atomic counter,
+ * stores its poll there, and then moves the published count forward over every
+ * position that has been filled, finishing the work of slower writers if it
+ * gets there first.
+ *
+ * Readers only look at the polls below the published count when they start,
+ * so every read sees a complete prefix of the list and no poll is seen before
+ * it has been fully stored. The list keeps a copy of each poll, so parties
+ * added to or replaced in a poll after it is added don't change the list and
+ * can't be seen half way through by a reader. For the same reason getPoll and
+ * toArray hand out copies of the list's polls rather than the polls themselves.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ConcurrentPollList extends PollList {
+	// Bucket b holds FIRST_BUCKET_SIZE << b polls, so 28 buckets hold more polls
+	// than an int can count.
+	private static final int FIRST_BUCKET_SIZE = 8;
+	private static final int FIRST_BUCKET_BITS = 3;
+	private static final int NUM_OF_BUCKETS = 28;
+
+	private AtomicReferenceArray<AtomicReferenceArray<Poll>> buckets = new AtomicReferenceArray<AtomicReferenceArray<Poll>>(
+			NUM_OF_BUCKETS);
+	// The number of positions claimed by writers.
+	private AtomicInteger claimed = new AtomicInteger();
+	// The number of positions that readers can see. Every position below it has
+	// been filled.
+	private AtomicInteger published = new AtomicInteger();
+
+	/**
+	 * Creates a new, empty ConcurrentPollList with a number of seats.
+	 *
+	 * @param numOfSeats The number of seats available in the election.
+	 */
+	public ConcurrentPollList(int numOfSeats) {
+		this(numOfSeats, new PartyDictionary());
+	}
+
+	/**
+	 * Creates a new, empty ConcurrentPollList whose parties are given ids by a
+	 * dictionary, which can be shared with other lists.
+	 *
+	 * @param numOfSeats The number of seats available in the election.
+	 * @param dictionary The dictionary that gives the parties their ids.
+	 */
+	public ConcurrentPollList(int numOfSeats, PartyDictionary dictionary) {
+		super(1, numOfSeats, dictionary);
+	}
+
+	/**
+	 * Gets the number of polls that readers can see, which only ever grows.
+	 *
+	 * @return The number of polls in the list.
+	 */
+	public int getNumOfPolls() {
+		return this.published.get();
+	}
+
+	/**
+	 * Counts the published polls that a party is in. Writers don't share any
+	 * record of which polls each party is in, so the polls are searched.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The number of polls the party is in.
+	 */
+	public int getNumOfPollsWithParty(String partyName) {
+		int partyId = this.getDictionary().findId(partyName);
+		int numOfPolls = this.published.get();
+		int count = 0;
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			if (this.slot(poll).getParty(partyId) != null)
+				count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Gets a stamp of the polls readers can see. The list keeps its own copy of
+	 * each poll, which can't be changed, so the stamp only changes when a poll is
+	 * published.
+	 *
+	 * @return The stamp.
+	 */
+	long renderStamp() {
+		return this.published.get();
+	}
+
+	/**
+	 * Creates a copy of every poll that has been added to the list so far.
+	 *
+	 * @return The polls in the list.
+	 */
+	public Poll[] toArray() {
+		int numOfPolls = this.published.get();
+		Poll[] polls = new Poll[numOfPolls];
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			polls[poll] = this.getPoll(poll);
+		}
+		return polls;
+	}
+
+	/**
+	 * Gets the list's own poll at a position for a scan over the list, without
+	 * copying it.
+	 *
+	 * @param index The position of the poll in the list, below the published
+	 *              count.
+	 * @return The poll.
+	 */
+	Poll scanPoll(int index) {
+		return this.slot(index);
+	}
+
+	/**
+	 * Creates a copy of one poll in the list, which parties can be added to
+	 * without changing the list.
+	 *
+	 * @param index The position of the poll in the list.
+	 * @return The poll, or null if there is no poll at that position yet.
+	 */
+	public Poll getPoll(int index) {
+		if (index < 0 || index >= this.published.get())
+			return null;
+		return this.copyOf(this.slot(index), 0);
+	}
+
+	/**
+	 * Adds a copy of a poll to the end of the list. Any number of threads can add
+	 * polls at the same time.
+	 *
+	 * @param aPoll The poll to add.
+	 */
+	public void addPoll(Poll aPoll) {
+		if (aPoll == null) {
+			Diagnostics.report(Diagnostics.Problem.NULL_POLL);
+			return;
+		}
+		Poll copy = this.copyOf(aPoll, aPoll.getNumberOfParties());
+		int index = this.claimed.getAndIncrement();
+		if (index < 0 || index > Integer.MAX_VALUE - FIRST_BUCKET_SIZE) {
+			Diagnostics.report(Diagnostics.Problem.LIST_FULL);
+			return;
+		}
+		this.bucketFor(index).set(index + FIRST_BUCKET_SIZE - bucketStart(index), copy);
+		this.publish();
+	}
+
+	/**
+	 * See the overall performance of a party across all polls that the party is
+	 * included in. The list doesn't keep running totals, since updating them would
+	 * make writers wait for each other, so this goes over the polls the same as
+	 * getAveragePartyData.
+	 *
+	 * @param partyName The name of the party to find average data for.
+	 * @return Party The average party data of the party.
+	 */
+	public Party getRunningAveragePartyData(String partyName) {
+		return this.getAveragePartyData(partyName);
+	}
+
+	/**
+	 * Creates sketches of every party's projections from the polls in the list.
+	 * Like the running totals, the sketches aren't kept, so each call goes over
+	 * the polls.
+	 *
+	 * @return The sketches.
+	 */
+	PartyQuantiles quantiles() {
+		PartyQuantiles partyQuantiles = new PartyQuantiles(this.getDictionary());
+		this.fillQuantiles(partyQuantiles);
+		return partyQuantiles;
+	}
+
+	/**
+	 * Creates the totals for a window of days from the polls in the list. The
+	 * totals aren't kept, since writers would have to wait for each other to
+	 * update them, so each call goes over the polls.
+	 *
+	 * @param days The number of days in the window.
+	 * @return The totals for the window.
+	 */
+	DatedPartySums windowSums(int days) {
+		if (days < 1) {
+			Diagnostics.report(Diagnostics.Problem.INVALID_WINDOW);
+			days = 1;
+		}
+		DatedPartySums sums = new WindowedPartySums(days, this.getDictionary());
+		this.fillDatedSums(sums);
+		return sums;
+	}
+
+	/**
+	 * Creates the totals for a half-life from the polls in the list, going over
+	 * the polls each call.
+	 *
+	 * @param halfLifeDays The number of days after which a poll counts half as
+	 *                     much.
+	 * @return The totals for the half-life.
+	 */
+	DatedPartySums decayedSums(double halfLifeDays) {
+		if (!(halfLifeDays > 0)) {
+			Diagnostics.report(Diagnostics.Problem.INVALID_HALF_LIFE);
+			halfLifeDays = 1;
+		}
+		DatedPartySums sums = new DecayedPartySums(halfLifeDays, this.getDictionary());
+		this.fillDatedSums(sums);
+		return sums;
+	}
+
+	/**
+	 * Writes a visual representation of each poll that was in the list when
+	 * writing started to a Writer, StringBuilder or other Appendable.
+	 *
+	 * @param out          Where to write the visualization.
+	 * @param seatsOrVotes Either "seats" or "votes", the data to visualize.
+	 * @throws IOException If writing to out fails.
+	 */
+	public void writeTextVisualization(Appendable out, String seatsOrVotes) throws IOException {
+		int amountPerStar = this.getAmountPerStar(seatsOrVotes);
+		int numOfPolls = this.published.get();
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			Poll aPoll = this.slot(poll);
+			if (seatsOrVotes.equals("seats"))
+				out.append(aPoll.textVisualizationBySeats(this.MAX_STARS_FOR_VISUALIZATION, amountPerStar));
+			else
+				out.append(aPoll.textVisualizationByVotes(this.MAX_STARS_FOR_VISUALIZATION, amountPerStar));
+			out.append('\n');
+		}
+	}
+
+	/**
+	 * Adds the data of the parties in one chunk of polls to a set of totals, but
+	 * only for polls the party is in. The list's polls are its own copies, so the
+	 * parties are looked up by dictionary id instead of by name.
+	 *
+	 * @param partyNames The names of the parties being averaged.
+	 * @param chunk      The chunk of polls to add.
+	 * @param numOfPolls The number of polls published when averaging started.
+	 * @param sums       The totals to add to, from newSums.
+	 */
+	void sumChunk(String[] partyNames, int chunk, int numOfPolls, PartySums sums) {
+		int[] partyIds = new int[partyNames.length];
+		for (int partyName = 0; partyName < partyNames.length; partyName++) {
+			partyIds[partyName] = this.getDictionary().findId(partyNames[partyName]);
+		}
+		int end = Math.min(numOfPolls, (chunk + 1) * POLLS_PER_CHUNK);
+		for (int poll = chunk * POLLS_PER_CHUNK; poll < end; poll++) {
+			Poll aPoll = this.slot(poll);
+			for (int partyName = 0; partyName < partyNames.length; partyName++) {
+				Party party = aPoll.getParty(partyIds[partyName]);
+				if (party == null) {
+					Diagnostics.report(Diagnostics.Problem.PARTY_NOT_IN_POLL, aPoll.getPollName());
+					continue;
+				}
+				sums.add(partyName, party.getProjectedNumberOfSeats(), party.getProjectedPercentageOfVotes());
+			}
+		}
+	}
+
+	/**
+	 * Moves the published count forward over every position that has been filled.
+	 * Whichever writer finds the next position filled moves the count past it, so
+	 * a writer that is slow to store its poll holds back the count but never
+	 * blocks other writers.
+	 */
+	private void publish() {
+		int next = this.published.get();
+		while (next < this.claimed.get() && this.isFilled(next)) {
+			this.published.compareAndSet(next, next + 1);
+			next = this.published.get();
+		}
+	}
+
+	/**
+	 * Checks if a writer has stored its poll at a position.
+	 */
+	private boolean isFilled(int index) {
+		AtomicReferenceArray<Poll> bucket = this.buckets.get(bucketIndex(index));
+		return bucket != null && bucket.get(index + FIRST_BUCKET_SIZE - bucketStart(index)) != null;
+	}
+
+	/**
+	 * Gets the poll at a position that has been published.
+	 */
+	private Poll slot(int index) {
+		return this.buckets.get(bucketIndex(index)).get(index + FIRST_BUCKET_SIZE - bucketStart(index));
+	}
+
+	/**
+	 * Gets the bucket that holds a position, creating it if no writer has yet.
+	 */
+	private AtomicReferenceArray<Poll> bucketFor(int index) {
+		int bucketIndex = bucketIndex(index);
+		AtomicReferenceArray<Poll> bucket = this.buckets.get(bucketIndex);
+		if (bucket == null) {
+			this.buckets.compareAndSet(bucketIndex, null,
+					new AtomicReferenceArray<Poll>(FIRST_BUCKET_SIZE << bucketIndex));
+			bucket = this.buckets.get(bucketIndex);
+		}
+		return bucket;
+	}
+
+	/**
+	 * Gets the number of the bucket that holds a position. Adding
+	 * FIRST_BUCKET_SIZE to the position makes its highest bit give the bucket.
+	 */
+	private static int bucketIndex(int index) {
+		return 31 - Integer.numberOfLeadingZeros(index + FIRST_BUCKET_SIZE) - FIRST_BUCKET_BITS;
+	}
+
+	/**
+	 * Gets the first position of the bucket that holds a position, plus
+	 * FIRST_BUCKET_SIZE.
+	 */
+	private static int bucketStart(int index) {
+		return Integer.highestOneBit(index + FIRST_BUCKET_SIZE);
+	}
+
+	/**
+	 * Creates a copy of a poll and its parties that can hold a number of parties,
+	 * or any number if it is 0. The copy's parties are given ids by the list's
+	 * dictionary, whatever dictionary the poll uses, and keep their colours.
+	 */
+	private Poll copyOf(Poll aPoll, int maxParties) {
+		Party[] parties = aPoll.getParties();
+		int numOfParties = aPoll.getNumberOfParties();
+		Poll copy = new Poll(aPoll.getPollName(), maxParties, aPoll.getDate(), this.getDictionary());
+		copy.setSampleSize(aPoll.getSampleSize());
+		for (int party = 0; party < numOfParties; party++) {
+			Party partyCopy = new Party(parties[party].getName(), parties[party].getProjectedNumberOfSeats(),
+					parties[party].getProjectedPercentageOfVotes());
+			if (parties[party].hasColour())
+				partyCopy.setColourArgb(parties[party].getColourRgb());
+			copy.addParty(partyCopy);
+		}
+		return copy;
+	}
+}
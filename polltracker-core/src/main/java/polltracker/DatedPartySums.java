@@ -0,0 +1,55 @@
+package polltracker;
+
+/**
+ * Totals of party projections that depend on the day each poll was taken, kept
+ * up to date as dated polls are added to a PollList so averages can be read
+ * without going back over the polls. Days are counted as in
+ * LocalDate.toEpochDay.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+interface DatedPartySums {
+
+	/**
+	 * Gets the entry of a party in a poll, which stays the same while the party
+	 * is replaced or changed so its projections can be taken back out.
+	 *
+	 * @param position The position of the poll in the list.
+	 * @param slot     The slot of the party in the poll.
+	 * @return The entry.
+	 */
+	static long entry(int position, int slot) {
+		return ((long) position << 32) | (slot & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Adds the projections for a party in a poll taken on a day.
+	 *
+	 * @param day        The day the poll was taken.
+	 * @param entry      The entry of the party in the poll, which must not
+	 *                   already be in the totals.
+	 * @param partyName  The name of the party.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 */
+	void add(int day, long entry, String partyName, float partySeats, float partyVotes);
+
+	/**
+	 * Takes the projections added for an entry back out.
+	 *
+	 * @param day   The day the poll was taken.
+	 * @param entry The entry of the party in the poll.
+	 * @throws IllegalStateException If nothing was added for the entry and it
+	 *                               wasn't left out for being too old.
+	 */
+	void remove(int day, long entry);
+
+	/**
+	 * Creates a party with the average projections of a party.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The party with its average number of seats and percentage of votes.
+	 */
+	Party average(String partyName);
+}
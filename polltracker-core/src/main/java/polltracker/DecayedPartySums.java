@@ -0,0 +1,87 @@
+package polltracker;
+
+import java.util.HashMap;
+
+/**
+ * Average party data where each poll counts half as much as a poll taken a
+ * half-life later, so recent polls count the most. A poll taken on day d is
+ * given the weight 2^((d - referenceDay) / halfLifeDays). Moving the day the
+ * weights are measured from multiplies every weight by the same number, which
+ * doesn't change the averages, so the weights never need to be updated as time
+ * goes on and adding a poll takes constant time. When new polls are so much
+ * later than the reference day that the weights would grow too large, the
+ * totals are scaled down and the reference day is moved forward.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class DecayedPartySums implements DatedPartySums {
+	// The largest power of two a weight can reach before the totals are scaled
+	// down, well inside the range of a double.
+	private static final double MAX_EXPONENT = 256;
+
+	private double halfLifeDays;
+	private RunningPartySums sums;
+	private int referenceDay;
+	private boolean empty = true;
+	// What was added for each entry, so exactly that can be taken back out.
+	private HashMap<Long, Added> added = new HashMap<Long, Added>();
+
+	/**
+	 * Creates empty totals with a half-life.
+	 *
+	 * @param halfLifeDays The number of days after which a poll counts half as
+	 *                     much, greater than zero.
+	 * @param dictionary   The dictionary that gives the parties their ids.
+	 */
+	DecayedPartySums(double halfLifeDays, PartyDictionary dictionary) {
+		this.halfLifeDays = halfLifeDays;
+		this.sums = new RunningPartySums(dictionary);
+	}
+
+	public void add(int day, long entry, String partyName, float partySeats, float partyVotes) {
+		if (this.empty) {
+			this.referenceDay = day;
+			this.empty = false;
+		}
+		double exponent = (day - (double) this.referenceDay) / this.halfLifeDays;
+		if (exponent > MAX_EXPONENT) {
+			this.sums.scale(Math.pow(2, -exponent));
+			this.referenceDay = day;
+			exponent = 0;
+		}
+		int id = this.sums.partyId(partyName);
+		this.sums.add(id, partySeats, partyVotes, Math.pow(2, exponent));
+		this.added.put(entry, new Added(id, partySeats, partyVotes));
+	}
+
+	public void remove(int day, long entry) {
+		Added values = this.added.remove(entry);
+		if (values == null)
+			throw new IllegalStateException("Nothing was added for entry " + entry);
+
+		// Scaling the totals moved the reference day by the same amount, so the
+		// weight worked out now is the one the values were added with, scaled
+		double exponent = (day - (double) this.referenceDay) / this.halfLifeDays;
+		this.sums.remove(values.id, values.seats, values.votes, Math.pow(2, exponent));
+	}
+
+	public Party average(String partyName) {
+		return this.sums.average(partyName);
+	}
+
+	/**
+	 * The projections added for an entry.
+	 */
+	private static final class Added {
+		final int id;
+		final float seats;
+		final float votes;
+
+		Added(int id, float seats, float votes) {
+			this.id = id;
+			this.seats = seats;
+			this.votes = votes;
+		}
+	}
+}
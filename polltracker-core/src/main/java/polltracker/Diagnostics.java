@@ -0,0 +1,231 @@
+package polltracker;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Collects the problems found while polls are built, loaded and averaged, such
+ * as invalid party values, null polls and parties missing from polls, without
+ * making the code that finds them wait on the console.
+ *
+ * Every problem is counted, so callers can check how many of each kind there
+ * were after a bulk load. Each problem is also queued as a message, which a
+ * background thread writes to the sink, System.out unless another sink is set.
+ * The queue holds at most QUEUE_CAPACITY messages. When it is full, further
+ * messages are dropped and counted instead of waiting, so a load that finds a
+ * problem in every row runs at the same speed as a clean one. Messages are only
+ * formatted by the background thread.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Diagnostics {
+	/**
+	 * The kinds of problem that are reported, each with the message written for
+	 * it. Messages with a %s include a detail, such as the name of a poll.
+	 */
+	public enum Problem {
+		INVALID_INPUT("Invalid input"),
+		NULL_PARTY("Error, Party is Null."),
+		POLL_FULL("Error, Poll is full and further parties can't be added."),
+		NEGATIVE_SAMPLE_SIZE("Error, sample size can't be negative"),
+		NULL_POLL("Error, input poll is null"),
+		// PollList grows when it is full, so this is only reported by
+		// ConcurrentPollList once every position an int can count has been used.
+		LIST_FULL("Error, PollList is full and further polls can't be added"),
+		EMPTY_POLL("Poll %s is empty"),
+		PARTY_NOT_IN_POLL("The party is not in %s"),
+		INVALID_WINDOW("Error, a window must be at least one day long"),
+		INVALID_HALF_LIFE("Error, a half-life must be greater than zero"),
+		INVALID_QUANTILE("Error, a quantile must be from 0 to 1"),
+		UNREADABLE_ROW("Error, skipping row that can't be read: %s"),
+		MISSING_PARTY_NAMES("Error, party names have not been set");
+
+		private final String message;
+
+		Problem(String message) {
+			this.message = message;
+		}
+
+		/**
+		 * Gets the message written for this kind of problem.
+		 *
+		 * @param detail The detail to include, or null.
+		 * @return The message.
+		 */
+		String message(Object detail) {
+			if (detail == null)
+				return this.message;
+			return String.format(Locale.ROOT, this.message, detail);
+		}
+	}
+
+	static final int QUEUE_CAPACITY = 4096;
+
+	private static final LongAdder[] COUNTS = new LongAdder[Problem.values().length];
+	private static final LongAdder DROPPED = new LongAdder();
+	private static final ArrayBlockingQueue<Report> QUEUE = new ArrayBlockingQueue<Report>(QUEUE_CAPACITY);
+	// The number of reports queued or being written. Checked before touching the
+	// queue, so dropping a report doesn't take the queue's lock.
+	private static final AtomicInteger PENDING = new AtomicInteger();
+	private static final AtomicLong QUEUED = new AtomicLong();
+	// Guards written, and is notified whenever a report has been written.
+	private static final Object WRITTEN_LOCK = new Object();
+	private static long written = 0;
+	private static volatile Consumer<String> sink = System.out::println;
+	private static volatile Thread writer;
+
+	static {
+		for (int problem = 0; problem < COUNTS.length; problem++) {
+			COUNTS[problem] = new LongAdder();
+		}
+	}
+
+	private Diagnostics() {
+	}
+
+	/**
+	 * Reports a problem with no detail.
+	 *
+	 * @param problem The kind of problem.
+	 */
+	static void report(Problem problem) {
+		report(problem, null);
+	}
+
+	/**
+	 * Reports a problem, counting it and queueing its message without waiting.
+	 *
+	 * @param problem The kind of problem.
+	 * @param detail  The detail for the message, or null.
+	 */
+	static void report(Problem problem, Object detail) {
+		COUNTS[problem.ordinal()].increment();
+		if (PENDING.incrementAndGet() > QUEUE_CAPACITY) {
+			PENDING.decrementAndGet();
+			DROPPED.increment();
+			return;
+		}
+		if (writer == null)
+			startWriter();
+		QUEUED.incrementAndGet();
+		QUEUE.offer(new Report(problem, detail));
+	}
+
+	/**
+	 * Gets the number of times a kind of problem has been reported since the
+	 * counts were last reset.
+	 *
+	 * @param problem The kind of problem.
+	 * @return The number of reports.
+	 */
+	public static long getCount(Problem problem) {
+		return COUNTS[problem.ordinal()].sum();
+	}
+
+	/**
+	 * Gets the number of messages that weren't written because the queue was
+	 * full. The problems are still counted.
+	 *
+	 * @return The number of dropped messages.
+	 */
+	public static long getDroppedCount() {
+		return DROPPED.sum();
+	}
+
+	/**
+	 * Sets every count, including the dropped messages, back to zero.
+	 */
+	public static void resetCounts() {
+		for (LongAdder count : COUNTS) {
+			count.reset();
+		}
+		DROPPED.reset();
+	}
+
+	/**
+	 * Sets where messages are written, such as System.err::println in a program
+	 * whose output on System.out is piped somewhere.
+	 *
+	 * @param newSink The sink, or null to only count problems.
+	 */
+	public static void setSink(Consumer<String> newSink) {
+		sink = newSink;
+	}
+
+	/**
+	 * Waits until every message queued so far has been written, such as before a
+	 * program exits or prompts for input.
+	 */
+	public static void flush() {
+		long target = QUEUED.get();
+		synchronized (WRITTEN_LOCK) {
+			boolean interrupted = false;
+			while (written < target) {
+				try {
+					WRITTEN_LOCK.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Starts the background thread that writes messages to the sink. It is a
+	 * daemon thread, so it doesn't keep a program running.
+	 */
+	private static synchronized void startWriter() {
+		if (writer != null)
+			return;
+		Thread newWriter = new Thread(Diagnostics::writeReports, "PollTracker diagnostics");
+		newWriter.setDaemon(true);
+		newWriter.start();
+		writer = newWriter;
+	}
+
+	/**
+	 * Writes queued messages to the sink for as long as the program runs.
+	 */
+	private static void writeReports() {
+		while (true) {
+			Report report;
+			try {
+				report = QUEUE.take();
+			} catch (InterruptedException e) {
+				continue;
+			}
+			Consumer<String> currentSink = sink;
+			try {
+				if (currentSink != null)
+					currentSink.accept(report.problem.message(report.detail));
+			} catch (RuntimeException e) {
+				// A failing sink mustn't stop later messages from being written
+			}
+			PENDING.decrementAndGet();
+			synchronized (WRITTEN_LOCK) {
+				written++;
+				WRITTEN_LOCK.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * One queued problem.
+	 */
+	private static final class Report {
+		final Problem problem;
+		final Object detail;
+
+		Report(Problem problem, Object detail) {
+			this.problem = problem;
+			this.detail = detail;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package polltracker;
+
+import java.util.SplittableRandom;
+
+/**
+ * Creates random polls for an election, for trying out the application and for
+ * load tests and benchmarks. In each poll the parties' shares of the vote are
+ * drawn uniformly from all the ways of splitting the vote, so they add up to
+ * one, and the seats are allocated from the shares by the D'Hondt method, so
+ * they add up to the number of seats in the election.
+ *
+ * The same seed always creates the same polls. Very large lists are best
+ * created with createRandomColumnarPollList, which doesn't create a Poll or
+ * Party object for each poll.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Factory {
+	private int numOfSeats;
+	private String[] partyNames;
+	private SplittableRandom random;
+	private SeatAllocator allocator = HighestAveragesAllocator.dHondt();
+
+	// Reused for every poll
+	private double[] votes = new double[0];
+	private float[] shares = new float[0];
+	private int[] seats = new int[0];
+
+	/**
+	 * Creates a factory for an election with a number of seats, with a random
+	 * seed.
+	 *
+	 * @param numOfSeats The number of seats available in the election.
+	 */
+	public Factory(int numOfSeats) {
+		this(numOfSeats, System.nanoTime());
+	}
+
+	/**
+	 * Creates a factory for an election with a number of seats that always creates
+	 * the same polls for the same seed.
+	 *
+	 * @param numOfSeats The number of seats available in the election.
+	 * @param seed       The seed for the random numbers.
+	 */
+	public Factory(int numOfSeats, long seed) {
+		this.numOfSeats = Math.max(numOfSeats, 0);
+		this.random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Sets the names of the parties to include in each poll.
+	 *
+	 * @param partyNames The names of the parties.
+	 */
+	public void setPartyNames(String[] partyNames) {
+		this.partyNames = partyNames;
+		int numOfParties = partyNames == null ? 0 : partyNames.length;
+		this.votes = new double[numOfParties];
+		this.shares = new float[numOfParties];
+		this.seats = new int[numOfParties];
+	}
+
+	public String[] getPartyNames() {
+		return this.partyNames;
+	}
+
+	/**
+	 * Creates a poll with every party and random projections.
+	 *
+	 * @param pollName The name of the poll.
+	 * @return The poll.
+	 */
+	public Poll createRandomPoll(String pollName) {
+		this.drawPoll();
+		Poll aPoll = new Poll(pollName, this.shares.length);
+		for (int party = 0; party < this.shares.length; party++) {
+			aPoll.addParty(new Party(this.partyNames[party], this.seats[party], this.shares[party]));
+		}
+		return aPoll;
+	}
+
+	/**
+	 * Creates a list of random polls named Poll 1, Poll 2 and so on.
+	 *
+	 * @param numOfPolls The number of polls to create.
+	 * @return The list of polls.
+	 */
+	public PollList createRandomPollList(int numOfPolls) {
+		PollList pollList = new PollList(numOfPolls, this.numOfSeats);
+		if (!this.hasPartyNames())
+			return pollList;
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			pollList.addPoll(this.createRandomPoll("Poll " + (poll + 1)));
+		}
+		return pollList;
+	}
+
+	/**
+	 * Creates a list of random polls stored as columns, the same polls that
+	 * createRandomPollList would create from the same seed, without creating a
+	 * Poll or Party object for each poll.
+	 *
+	 * @param numOfPolls The number of polls to create.
+	 * @return The list of polls.
+	 */
+	public ColumnarPollList createRandomColumnarPollList(int numOfPolls) {
+		ColumnarPollList pollList = new ColumnarPollList(numOfPolls, this.numOfSeats);
+		if (!this.hasPartyNames())
+			return pollList;
+		int numOfParties = this.partyNames.length;
+		int[] ids = new int[numOfParties];
+		float[] floatSeats = new float[numOfParties];
+		for (int party = 0; party < numOfParties; party++) {
+			ids[party] = pollList.partyId(this.partyNames[party]);
+		}
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			this.drawPoll();
+			for (int party = 0; party < numOfParties; party++) {
+				floatSeats[party] = this.seats[party];
+			}
+			pollList.addPoll("Poll " + (poll + 1), ColumnarPollList.NO_DATE, 0, numOfParties, ids, floatSeats,
+					this.shares);
+		}
+		return pollList;
+	}
+
+	/**
+	 * Checks that the party names have been set, reporting an error if they
+	 * haven't.
+	 */
+	private boolean hasPartyNames() {
+		if (this.partyNames == null) {
+			Diagnostics.report(Diagnostics.Problem.MISSING_PARTY_NAMES);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Draws the shares of the vote and the seats of every party for one poll.
+	 * Dividing exponentially distributed numbers by their total gives shares
+	 * spread evenly over every way of splitting the vote. The last share is what
+	 * is left of one after the others, so the float shares add up to one.
+	 */
+	private void drawPoll() {
+		int numOfParties = this.votes.length;
+		double total = 0;
+		for (int party = 0; party < numOfParties; party++) {
+			this.votes[party] = -Math.log(1 - this.random.nextDouble());
+			total += this.votes[party];
+		}
+		float sharesSoFar = 0;
+		for (int party = 0; party < numOfParties; party++) {
+			this.votes[party] /= total;
+			if (party < numOfParties - 1) {
+				this.shares[party] = (float) this.votes[party];
+				sharesSoFar += this.shares[party];
+			} else {
+				this.shares[party] = Math.max(0, 1 - sharesSoFar);
+			}
+		}
+		this.allocator.allocate(this.votes, numOfParties, this.numOfSeats, this.seats);
+	}
+}
@@ -0,0 +1,85 @@
+package polltracker;
+
+/**
+ * Allocates seats by a highest averages method, where each seat in turn goes to
+ * the party with the most votes divided by a divisor that grows with the seats
+ * the party already has. The D'Hondt method divides by one more than the seats
+ * a party has, and the Sainte-Lague method by one half more, which favours
+ * smaller parties a little.
+ *
+ * Most of the seats are given out first by dividing every party's votes by a
+ * divisor that is certain to give out no more than all the seats, so at most
+ * about one seat per party is left to give out one at a time. Those seats are
+ * taken from a heap of the parties' next quotients, so allocating S seats
+ * between N parties takes O(N + N log N) time instead of O(S log N).
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HighestAveragesAllocator extends SeatAllocator {
+	// A party with k seats has its votes divided by k + offset
+	private double offset;
+	private QuotientHeap heap = new QuotientHeap();
+	private double[] quotients = new double[16];
+
+	private HighestAveragesAllocator(double offset) {
+		this.offset = offset;
+	}
+
+	/**
+	 * Creates an allocator using the D'Hondt method, with divisors 1, 2, 3 and so
+	 * on.
+	 *
+	 * @return The allocator.
+	 */
+	public static HighestAveragesAllocator dHondt() {
+		return new HighestAveragesAllocator(1);
+	}
+
+	/**
+	 * Creates an allocator using the Sainte-Lague method, with divisors 1, 3, 5 and
+	 * so on.
+	 *
+	 * @return The allocator.
+	 */
+	public static HighestAveragesAllocator sainteLague() {
+		return new HighestAveragesAllocator(0.5);
+	}
+
+	public SeatAllocator copy() {
+		return new HighestAveragesAllocator(this.offset);
+	}
+
+	public void allocate(double[] votes, int numOfParties, int numOfSeats, int[] seats) {
+		if (this.quotients.length < numOfParties)
+			this.quotients = new double[numOfParties];
+		double totalVotes = 0;
+		for (int party = 0; party < numOfParties; party++) {
+			if (votes[party] > 0)
+				totalVotes += votes[party];
+		}
+
+		// With divisor d a party wins floor(votes / d - offset + 1) seats, which adds
+		// up to at most totalVotes / d + numOfParties * (1 - offset), so this divisor
+		// gives out no more than numOfSeats and no party more than it ends up with
+		int seatsGiven = 0;
+		double extraSeats = numOfParties * (1 - this.offset);
+		double divisor = numOfSeats > extraSeats ? totalVotes / (numOfSeats - extraSeats) : 0;
+		for (int party = 0; party < numOfParties; party++) {
+			seats[party] = 0;
+			if (votes[party] > 0 && divisor > 0) {
+				// Rounded down a little further so rounding errors can't give too many
+				seats[party] = Math.max(0, (int) (votes[party] / divisor - this.offset + 1 - 1e-9));
+				seatsGiven += seats[party];
+			}
+			this.quotients[party] = votes[party] > 0 ? votes[party] / (seats[party] + this.offset) : 0;
+		}
+
+		this.heap.build(this.quotients, numOfParties);
+		for (; seatsGiven < numOfSeats && !this.heap.isEmpty() && this.heap.topKey() > 0; seatsGiven++) {
+			int party = this.heap.top();
+			seats[party]++;
+			this.heap.replaceTop(votes[party] / (seats[party] + this.offset));
+		}
+	}
+}
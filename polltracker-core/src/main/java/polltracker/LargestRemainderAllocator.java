@@ -0,0 +1,50 @@
+package polltracker;
+
+/**
+ * Allocates seats by the largest remainder method with the Hare quota. Each
+ * party's votes are divided by the quota, the total votes divided by the
+ * number of seats, and the party wins the whole part of the result. The seats
+ * left over go to the parties with the largest remainders, taken from a heap.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LargestRemainderAllocator extends SeatAllocator {
+	private QuotientHeap heap = new QuotientHeap();
+	private double[] remainders = new double[16];
+
+	public SeatAllocator copy() {
+		return new LargestRemainderAllocator();
+	}
+
+	public void allocate(double[] votes, int numOfParties, int numOfSeats, int[] seats) {
+		if (this.remainders.length < numOfParties)
+			this.remainders = new double[numOfParties];
+		double totalVotes = 0;
+		for (int party = 0; party < numOfParties; party++) {
+			if (votes[party] > 0)
+				totalVotes += votes[party];
+		}
+
+		int seatsGiven = 0;
+		for (int party = 0; party < numOfParties; party++) {
+			seats[party] = 0;
+			// Parties with no votes are never given a seat left over
+			this.remainders[party] = -1;
+			if (votes[party] > 0 && numOfSeats > 0) {
+				double quotas = votes[party] / totalVotes * numOfSeats;
+				seats[party] = (int) quotas;
+				this.remainders[party] = quotas - seats[party];
+				seatsGiven += seats[party];
+			}
+		}
+
+		this.heap.build(this.remainders, numOfParties);
+		for (; seatsGiven < numOfSeats && !this.heap.isEmpty(); seatsGiven++) {
+			if (this.heap.topKey() < 0)
+				break;
+			seats[this.heap.top()]++;
+			this.heap.removeTop();
+		}
+	}
+}
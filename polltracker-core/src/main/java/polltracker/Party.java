@@ -1,5 +1,7 @@
+package polltracker;
+
 import java.awt.Color;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * The Party class represents a single political party by its name, projected
@@ -21,7 +23,38 @@ public class Party {
 	private String name;
 	private float projectedNumberOfSeats;
 	private float projectedPercentageOfVotes;
-	private Color partyColour;
+
+	// The colour of the party packed as 0xAARRGGBB, the same as Color.getRGB. A
+	// Color is only created the first time getColour is called, so parties can be
+	// coloured and printed without loading AWT or keeping a Color object per
+	// party, and is kept until the colour is set again.
+	private int partyColour;
+	private boolean hasColour = false;
+	private Color colour;
+
+	// The polls this party has been added to, which are told when the party is
+	// changed so they can find it by its new name, their lists can swap its old
+	// values for its new ones in their totals, and visualizations they have
+	// cached are drawn again. The array doubles in size when it is full, and only
+	// the first numOfPolls entries are used.
+	private Poll[] polls = NO_POLLS;
+	private int numOfPolls = 0;
+	private static final Poll[] NO_POLLS = new Poll[0];
+
+	// Runs of stars and spaces copied into star bars, so that drawing a bar doesn't
+	// need to create any strings or collections.
+	private static final char[] STAR_TEMPLATE = new char[64];
+	private static final char[] SPACE_TEMPLATE = new char[64];
+	// The text of every value of a colour component, so toString doesn't convert
+	// the components of a colour to text each time.
+	private static final String[] COMPONENT_TEXT = new String[256];
+	static {
+		Arrays.fill(STAR_TEMPLATE, '*');
+		Arrays.fill(SPACE_TEMPLATE, ' ');
+		for (int i = 0; i < COMPONENT_TEXT.length; i++) {
+			COMPONENT_TEXT[i] = Integer.toString(i);
+		}
+	}
 
 	/**
 	 * Creates a political party with the specified name.
@@ -53,11 +86,11 @@ public class Party {
 	}
 
 	/**
-	 * This method prints "Invalid Input" to indicate a condition has not been met
+	 * This method reports "Invalid input" to indicate a condition has not been met
 	 * by a parameter.
 	 */
 	private void errorStatement() {
-		System.out.println("Invalid input");
+		Diagnostics.report(Diagnostics.Problem.INVALID_INPUT);
 	}
 
 	/**
@@ -75,7 +108,53 @@ public class Party {
 	 * @param name This parameter is the string assigned to this party's name.
 	 */
 	public void setName(String name) {
+		String oldName = this.name;
 		this.name = name;
+		this.changed(oldName, this.projectedNumberOfSeats, this.projectedPercentageOfVotes);
+	}
+
+	/**
+	 * This method tells every poll this party is in that the party has changed,
+	 * giving the values it had before the change.
+	 * 
+	 * @param oldName  This parameter is the name of the party before the change.
+	 * @param oldSeats This parameter is the projected number of seats before the
+	 *                 change.
+	 * @param oldVotes This parameter is the projected percentage of votes before
+	 *                 the change.
+	 */
+	private void changed(String oldName, float oldSeats, float oldVotes) {
+		for (int i = 0; i < this.numOfPolls; i++) {
+			this.polls[i].partyChanged(this, oldName, oldSeats, oldVotes);
+		}
+	}
+
+	/**
+	 * This method is called by a poll when this party is added to it, so the poll
+	 * is told when the party changes.
+	 * 
+	 * @param poll This parameter is the poll the party was added to.
+	 */
+	void addPoll(Poll poll) {
+		if (this.numOfPolls == this.polls.length)
+			this.polls = Arrays.copyOf(this.polls, Math.max(1, this.polls.length * 2));
+		this.polls[this.numOfPolls++] = poll;
+	}
+
+	/**
+	 * This method is called by a poll when this party is replaced in it, so the
+	 * poll is no longer told when the party changes.
+	 * 
+	 * @param poll This parameter is the poll the party was replaced in.
+	 */
+	void removePoll(Poll poll) {
+		for (int i = 0; i < this.numOfPolls; i++) {
+			if (this.polls[i] == poll) {
+				System.arraycopy(this.polls, i + 1, this.polls, i, this.numOfPolls - i - 1);
+				this.polls[--this.numOfPolls] = null;
+				return;
+			}
+		}
 	}
 
 	/**
@@ -97,7 +176,9 @@ public class Party {
 	 */
 	public void setProjectedNumberOfSeats(float aProjNumSeats) {
 		if (aProjNumSeats >= 0) {
+			float oldSeats = this.projectedNumberOfSeats;
 			this.projectedNumberOfSeats = aProjNumSeats;
+			this.changed(this.name, oldSeats, this.projectedPercentageOfVotes);
 		} else {
 			errorStatement();
 		}
@@ -124,29 +205,98 @@ public class Party {
 	 */
 	public void setProjectedPercentageOfVotes(float aProjPercentageVotes) {
 		if (aProjPercentageVotes >= 0 && aProjPercentageVotes <= 1) {
+			float oldVotes = this.projectedPercentageOfVotes;
 			this.projectedPercentageOfVotes = aProjPercentageVotes;
+			this.changed(this.name, this.projectedNumberOfSeats, oldVotes);
 		} else {
 			errorStatement();
 		}
 	}
 
 	/**
-	 * This method gets the Color of this political party.
+	 * This method gets the Color of this political party. The Color is created
+	 * from the packed colour the first time and reused until the colour changes.
 	 * 
 	 * @return This returns the name of the colour of this political party, as an
-	 *         instance of the Color class.
+	 *         instance of the Color class, or null if the party has no colour.
 	 */
 	public Color getColour() {
-		return this.partyColour;
+		if (!this.hasColour) {
+			return null;
+		}
+		if (this.colour == null) {
+			this.colour = new Color(this.partyColour, true);
+		}
+		return this.colour;
 	}
 
 	/**
-	 * This method sets the Color of this political party.
+	 * This method sets the Color of this political party, which is stored packed
+	 * into an int.
 	 * 
-	 * @param partyColour This parameter is an instance of the Color class.
+	 * @param partyColour This parameter is an instance of the Color class, or null
+	 *                    to remove the party's colour.
 	 */
 	public void setColour(Color partyColour) {
-		this.partyColour = partyColour;
+		if (partyColour == null) {
+			this.hasColour = false;
+			this.partyColour = 0;
+			this.colour = null;
+		} else {
+			this.hasColour = true;
+			this.partyColour = partyColour.getRGB();
+			this.colour = null;
+		}
+		this.changed(this.name, this.projectedNumberOfSeats, this.projectedPercentageOfVotes);
+	}
+
+	/**
+	 * This method checks whether a colour has been set for this political party.
+	 * 
+	 * @return This returns true if the party has a colour.
+	 */
+	public boolean hasColour() {
+		return this.hasColour;
+	}
+
+	/**
+	 * This method gets the colour of this political party packed into an int, the
+	 * same as Color.getRGB, without creating a Color.
+	 * 
+	 * @return This returns the colour as 0xAARRGGBB, or 0 if the party has no
+	 *         colour.
+	 */
+	public int getColourRgb() {
+		return this.partyColour;
+	}
+
+	/**
+	 * This method sets the colour of this political party from red, green and blue
+	 * components packed into an int, without creating a Color. The colour is
+	 * opaque, the same as new Color(rgb).
+	 * 
+	 * @param rgb This parameter is the colour as 0xRRGGBB. Any alpha bits are
+	 *            ignored.
+	 */
+	public void setColourRgb(int rgb) {
+		this.hasColour = true;
+		this.partyColour = 0xFF000000 | rgb;
+		this.colour = null;
+		this.changed(this.name, this.projectedNumberOfSeats, this.projectedPercentageOfVotes);
+	}
+
+	/**
+	 * This method sets the colour of this political party from a colour packed the
+	 * same as getColourRgb, keeping its alpha, so a colour can be copied from one
+	 * party to another without creating a Color.
+	 * 
+	 * @param argb This parameter is the colour as 0xAARRGGBB.
+	 */
+	void setColourArgb(int argb) {
+		this.hasColour = true;
+		this.partyColour = argb;
+		this.colour = null;
+		this.changed(this.name, this.projectedNumberOfSeats, this.projectedPercentageOfVotes);
 	}
 
 	/**
@@ -187,28 +337,58 @@ public class Party {
 	 *         representation of that party
 	 */
 	private String starArray(int numOfStars, int maxStars) {
+		StringBuilder starString = new StringBuilder(maxStars + 64);
+		appendStarBar(starString, numOfStars, maxStars);
+		starString.append(this.toString());
+		return starString.toString();
+	}
+
+	/**
+	 * This method appends a row of stars indicated by the first parameter and a
+	 * bar that marks the halfway point of the maximum number of stars to a
+	 * StringBuilder supplied by the caller. The row has room for one more than the
+	 * maximum number of stars, and any room not used by stars is filled with
+	 * spaces, so every row is maxStars + 2 characters long. Nothing is allocated
+	 * unless the StringBuilder has to grow.
+	 * 
+	 * @param out        This parameter is the StringBuilder to append the row to
+	 * @param numOfStars This parameter is the number of stars to add to the row. If
+	 *                   it is more than the row has room for, the row is filled
+	 *                   with stars.
+	 * @param maxStars   This parameter is the maximum number of stars that can be
+	 *                   displayed on a single line
+	 */
+	public static void appendStarBar(StringBuilder out, int numOfStars, int maxStars) {
 
 		// the bar is placed at the halfway point of the maximum number of stars,
 		// rounded up.
-		int barIndex = (int) Math.ceil(maxStars / 2.0);
-
-		// An ArrayList is created to loop through and set string values at indices.
-		// Spaces are used to fill all non-star or bar indices, so the list is filled
-		// with " " and necessary indices are replaced with *, |, and toString
-		// representation.
-		ArrayList<String> starArray = new ArrayList<String>(maxStars + 2);
-		for (int i = 0; i < maxStars + 1; i++) {
-			starArray.add(i, " ");
-		}
-		for (int j = 0; j < numOfStars; j++) {
-			starArray.set(j, "*");
-		}
+		int barIndex = (maxStars + 1) / 2;
+		int rowLength = maxStars + 1;
+		int stars = Math.max(0, Math.min(numOfStars, rowLength));
 
-		starArray.add(barIndex, "|");
-		starArray.add(maxStars + 2, this.toString());
+		// Stars and spaces before the bar, then the bar, then the rest of the row
+		int starsBeforeBar = Math.min(stars, barIndex);
+		appendRun(out, STAR_TEMPLATE, starsBeforeBar);
+		appendRun(out, SPACE_TEMPLATE, barIndex - starsBeforeBar);
+		out.append('|');
+		appendRun(out, STAR_TEMPLATE, stars - starsBeforeBar);
+		appendRun(out, SPACE_TEMPLATE, rowLength - barIndex - (stars - starsBeforeBar));
+	}
 
-		String starString = String.join("", starArray);
-		return starString;
+	/**
+	 * This method appends a run of the same character to a StringBuilder by
+	 * copying from a template, one template length at a time.
+	 * 
+	 * @param out      This parameter is the StringBuilder to append the run to
+	 * @param template This parameter is a template filled with the character
+	 * @param length   This parameter is the length of the run
+	 */
+	private static void appendRun(StringBuilder out, char[] template, int length) {
+		while (length > 0) {
+			int chunk = Math.min(length, template.length);
+			out.append(template, 0, chunk);
+			length -= chunk;
+		}
 	}
 
 	/**
@@ -281,7 +461,7 @@ public class Party {
 
 	/**
 	 * This method creates a string representation of a party's instance variables.
-	 * If there is no Color assigned to the party, the method will not include the
+	 * If there is no colour assigned to the party, the method will not include the
 	 * partyColour instance variable in the string representation.
 	 * 
 	 * @return This returns a string representation of the party's instance
@@ -289,10 +469,10 @@ public class Party {
 	 */
 	public String toString() {
 		String toString;
-		if (partyColour != null) {
-			toString = name + " ([" + partyColour.getRed() + "," + partyColour.getGreen() + "," + partyColour.getBlue()
-					+ "], " + Math.round(projectedPercentageOfVotes * 100) + "% of votes, " + projectedNumberOfSeats
-					+ " seats)";
+		if (hasColour) {
+			toString = name + " ([" + COMPONENT_TEXT[(partyColour >> 16) & 0xFF] + ","
+					+ COMPONENT_TEXT[(partyColour >> 8) & 0xFF] + "," + COMPONENT_TEXT[partyColour & 0xFF] + "], "
+					+ Math.round(projectedPercentageOfVotes * 100) + "% of votes, " + projectedNumberOfSeats + " seats)";
 		} else {
 			toString = name + " (" + Math.round(projectedPercentageOfVotes * 100) + "% of votes, "
 					+ projectedNumberOfSeats + " seats)";
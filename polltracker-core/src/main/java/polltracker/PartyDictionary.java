@@ -0,0 +1,145 @@
+package polltracker;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every party a small integer id that is the same in every poll and poll
+ * list using the dictionary, so parties can be matched by comparing ids and
+ * their data kept in arrays indexed by id instead of maps keyed by name. Names
+ * are matched ignoring case, the same as everywhere else parties are matched,
+ * and ids are handed out from 0 up in the order parties are first seen.
+ *
+ * Every spelling of a name that has been seen is remembered, so looking it up
+ * again is one hash lookup without folding its case, and readers that create a
+ * new string for every row can share one copy of each spelling through intern.
+ * Each poll list has its own dictionary, shared by the polls added to it, and
+ * a dictionary is safe to use from any thread. Ids are never taken back, so the
+ * dictionary holds every party name it has seen.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PartyDictionary {
+	// Every spelling seen so far, and every case-folded name, mapped to its id.
+	private final ConcurrentHashMap<String, Spelling> spellings = new ConcurrentHashMap<String, Spelling>();
+	private final ConcurrentHashMap<String, Integer> foldedIds = new ConcurrentHashMap<String, Integer>();
+	// The first spelling of each party, indexed by id. Only grows while holding
+	// the lock, and is published through the maps before an id is handed out.
+	private volatile String[] names = new String[64];
+	private volatile int size = 0;
+
+	/**
+	 * Creates an empty dictionary.
+	 */
+	public PartyDictionary() {
+	}
+
+	/**
+	 * Gets the id of a party, giving it a new id if no party with the same name,
+	 * ignoring case, has been seen.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The id of the party.
+	 */
+	public int getId(String partyName) {
+		Spelling spelling = this.spellings.get(partyName);
+		if (spelling == null)
+			spelling = this.addSpelling(partyName, true);
+		return spelling.id;
+	}
+
+	/**
+	 * Finds the id of a party without giving it one.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The id of the party, or -1 if no party with the same name, ignoring
+	 *         case, has been seen.
+	 */
+	public int findId(String partyName) {
+		if (partyName == null)
+			return -1;
+		Spelling spelling = this.spellings.get(partyName);
+		if (spelling == null)
+			spelling = this.addSpelling(partyName, false);
+		return spelling == null ? -1 : spelling.id;
+	}
+
+	/**
+	 * Gets the first spelling seen of the name of a party.
+	 *
+	 * @param id The id of the party.
+	 * @return The name of the party.
+	 */
+	public String getName(int id) {
+		return this.names[id];
+	}
+
+	/**
+	 * Gets the number of parties in the dictionary, which is one more than the
+	 * highest id.
+	 *
+	 * @return The number of parties.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the copy of a spelling kept by the dictionary, adding the party if it
+	 * hasn't been seen, so equal names read from many rows share one string.
+	 *
+	 * @param partyName The name of the party.
+	 * @return A string equal to partyName.
+	 */
+	public String intern(String partyName) {
+		Spelling spelling = this.spellings.get(partyName);
+		if (spelling == null)
+			spelling = this.addSpelling(partyName, true);
+		return spelling.name;
+	}
+
+	/**
+	 * Remembers a spelling that hasn't been seen before. The name is only folded
+	 * here, the first time each spelling is seen.
+	 *
+	 * @param partyName The spelling.
+	 * @param addParty  Whether to give the party a new id if it isn't in the
+	 *                  dictionary under another spelling.
+	 * @return The spelling, or null if the party isn't in the dictionary and
+	 *         addParty is false.
+	 */
+	private synchronized Spelling addSpelling(String partyName, boolean addParty) {
+		Spelling spelling = this.spellings.get(partyName);
+		if (spelling != null)
+			return spelling;
+		String key = Poll.foldName(partyName);
+		Integer id = this.foldedIds.get(key);
+		if (id == null) {
+			if (!addParty)
+				return null;
+			id = this.size;
+			if (id == this.names.length)
+				this.names = Arrays.copyOf(this.names, id * 2);
+			this.names[id] = partyName;
+			this.foldedIds.put(key, id);
+			this.size = id + 1;
+		}
+		spelling = new Spelling(partyName, id);
+		this.spellings.put(partyName, spelling);
+		return spelling;
+	}
+
+	/**
+	 * One spelling of a party name and the id of the party.
+	 */
+	private static final class Spelling {
+		final String name;
+		final int id;
+
+		Spelling(String name, int id) {
+			this.name = name;
+			this.id = id;
+		}
+	}
+}
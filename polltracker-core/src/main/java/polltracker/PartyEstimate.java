@@ -0,0 +1,105 @@
+package polltracker;
+
+import java.util.Locale;
+
+/**
+ * The estimated share of the vote of a party across a number of polls weighted
+ * by sample size, with its standard error and a 95% confidence interval.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PartyEstimate {
+	// The number of standard errors either side of the mean that holds 95% of a
+	// normal distribution.
+	private static final double Z_95 = 1.959964;
+
+	private String name;
+	private int numOfPolls;
+	private long sampleSize;
+	private double meanVotes;
+	private double standardError;
+
+	/**
+	 * Creates an estimate.
+	 *
+	 * @param name          The name of the party.
+	 * @param numOfPolls    The number of polls the estimate is based on.
+	 * @param sampleSize    The total number of people asked in those polls.
+	 * @param meanVotes     The weighted mean share of the vote.
+	 * @param standardError The standard error of the mean.
+	 */
+	public PartyEstimate(String name, int numOfPolls, long sampleSize, double meanVotes, double standardError) {
+		this.name = name;
+		this.numOfPolls = numOfPolls;
+		this.sampleSize = sampleSize;
+		this.meanVotes = meanVotes;
+		this.standardError = standardError;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Gets the number of polls the estimate is based on. An estimate based on no
+	 * polls has a mean and margin of error of zero.
+	 *
+	 * @return The number of polls.
+	 */
+	public int getNumOfPolls() {
+		return this.numOfPolls;
+	}
+
+	public long getSampleSize() {
+		return this.sampleSize;
+	}
+
+	/**
+	 * Gets the estimated share of the vote, between zero and one.
+	 *
+	 * @return The mean share of the vote weighted by sample size.
+	 */
+	public double getMeanVotes() {
+		return this.meanVotes;
+	}
+
+	public double getStandardError() {
+		return this.standardError;
+	}
+
+	/**
+	 * Gets the margin of error of the estimate at 95% confidence.
+	 *
+	 * @return The distance from the mean to either end of the confidence interval.
+	 */
+	public double getMarginOfError() {
+		return Z_95 * this.standardError;
+	}
+
+	/**
+	 * Gets the lower end of the 95% confidence interval, which is never below zero.
+	 *
+	 * @return The lowest likely share of the vote.
+	 */
+	public double getLowerBound() {
+		return Math.max(0, this.meanVotes - this.getMarginOfError());
+	}
+
+	/**
+	 * Gets the upper end of the 95% confidence interval, which is never above one.
+	 *
+	 * @return The highest likely share of the vote.
+	 */
+	public double getUpperBound() {
+		return Math.min(1, this.meanVotes + this.getMarginOfError());
+	}
+
+	/**
+	 * Displays the estimate as a percentage with its margin of error.
+	 */
+	public String toString() {
+		return String.format(Locale.ROOT, "%s: %.1f%% +/- %.1f%% (%d polls, n=%d)", this.name, 100 * this.meanVotes,
+				100 * this.getMarginOfError(), this.numOfPolls, this.sampleSize);
+	}
+}
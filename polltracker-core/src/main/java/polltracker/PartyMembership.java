@@ -0,0 +1,70 @@
+package polltracker;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Records which polls in a list each party is in, as one bitset of poll
+ * positions per party, numbered by the party's id in the list's
+ * PartyDictionary. Averages can then visit only the polls a party is in, which
+ * matters when many minor parties are each in only a few polls, and the number
+ * of polls a party is in is a count of set bits.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PartyMembership {
+	private static final BitSet NO_POLLS = new BitSet();
+
+	private BitSet[] polls = new BitSet[16];
+
+	/**
+	 * Records that a party is in the poll at a position in the list.
+	 *
+	 * @param partyId The id of the party.
+	 * @param poll    The position of the poll in the list.
+	 */
+	void add(int partyId, int poll) {
+		if (partyId >= this.polls.length)
+			this.polls = Arrays.copyOf(this.polls, Math.max(partyId + 1, this.polls.length * 2));
+		if (this.polls[partyId] == null)
+			this.polls[partyId] = new BitSet();
+		this.polls[partyId].set(poll);
+	}
+
+	/**
+	 * Records that a party is no longer in the poll at a position in the list,
+	 * such as after it has been renamed.
+	 *
+	 * @param partyId The id of the party, or -1.
+	 * @param poll    The position of the poll in the list.
+	 */
+	void remove(int partyId, int poll) {
+		if (partyId >= 0 && partyId < this.polls.length && this.polls[partyId] != null)
+			this.polls[partyId].clear(poll);
+	}
+
+	/**
+	 * Gets the positions of the polls a party is in. The bitset is the one kept
+	 * up to date by add, so it must not be changed.
+	 *
+	 * @param partyId The id of the party, or -1 for a party that isn't in the
+	 *                dictionary.
+	 * @return The positions of the polls, empty if the party isn't in any poll.
+	 */
+	BitSet polls(int partyId) {
+		if (partyId < 0 || partyId >= this.polls.length || this.polls[partyId] == null)
+			return NO_POLLS;
+		return this.polls[partyId];
+	}
+
+	/**
+	 * Counts the polls a party is in.
+	 *
+	 * @param partyId The id of the party, or -1.
+	 * @return The number of polls.
+	 */
+	int count(int partyId) {
+		return this.polls(partyId).cardinality();
+	}
+}
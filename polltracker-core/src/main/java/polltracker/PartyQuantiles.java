@@ -0,0 +1,91 @@
+package polltracker;
+
+import java.util.Arrays;
+
+/**
+ * Sketches of every party's projected seats and votes, kept up to date as
+ * parties are added so that the median or any other quantile of a party's
+ * projections can be read without sorting them. Parties are numbered by their
+ * ids in a PartyDictionary, and only values greater than zero are counted,
+ * the same as in PollList.getAveragePartyData.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PartyQuantiles {
+	private PartyDictionary dictionary;
+	private QuantileSketch[] seats = new QuantileSketch[16];
+	private QuantileSketch[] votes = new QuantileSketch[16];
+
+	/**
+	 * Creates empty sketches for parties numbered by a dictionary.
+	 *
+	 * @param dictionary The dictionary that gives the parties their ids.
+	 */
+	PartyQuantiles(PartyDictionary dictionary) {
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * Adds one poll's projections for a party to the sketches.
+	 *
+	 * @param partyName  The name of the party.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 */
+	void add(String partyName, float partySeats, float partyVotes) {
+		this.add(this.dictionary.getId(partyName), partySeats, partyVotes);
+	}
+
+	/**
+	 * Adds one poll's projections for a party numbered by its dictionary id.
+	 *
+	 * @param id         The id of the party.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 */
+	void add(int id, float partySeats, float partyVotes) {
+		if (id >= this.seats.length)
+			this.grow(id + 1);
+		if (partySeats > 0) {
+			if (this.seats[id] == null)
+				this.seats[id] = new QuantileSketch();
+			this.seats[id].add(partySeats);
+		}
+		if (partyVotes > 0) {
+			if (this.votes[id] == null)
+				this.votes[id] = new QuantileSketch();
+			this.votes[id].add(partyVotes);
+		}
+	}
+
+	/**
+	 * Creates a party with a quantile of a party's projections.
+	 *
+	 * @param partyName The name of the party.
+	 * @param quantile  The fraction of the values at or below the quantile, from
+	 *                  0 to 1.
+	 * @return The party with the quantile of its number of seats and percentage
+	 *         of votes, which are zero if the party hasn't been added.
+	 */
+	Party quantile(String partyName, double quantile) {
+		int id = this.dictionary.findId(partyName);
+		Party quantileParty = new Party(partyName);
+		if (id < 0 || id >= this.seats.length)
+			return quantileParty;
+		if (this.seats[id] != null)
+			quantileParty.setProjectedNumberOfSeats(this.seats[id].quantile(quantile));
+		if (this.votes[id] != null)
+			quantileParty.setProjectedPercentageOfVotes(this.votes[id].quantile(quantile));
+		return quantileParty;
+	}
+
+	/**
+	 * Makes room in the sketches for at least a number of parties.
+	 */
+	private void grow(int numOfParties) {
+		int newLength = Math.max(numOfParties, this.seats.length * 2);
+		this.seats = Arrays.copyOf(this.seats, newLength);
+		this.votes = Arrays.copyOf(this.votes, newLength);
+	}
+}
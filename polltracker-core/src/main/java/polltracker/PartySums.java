@@ -0,0 +1,92 @@
+package polltracker;
+
+import java.util.Arrays;
+
+/**
+ * Running totals of projected seats and votes for a number of parties, used to
+ * find average party data across polls. Only values greater than zero are
+ * counted, so a poll that gives a party no seats doesn't lower its average
+ * number of seats.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PartySums {
+	float[] seats;
+	float[] votes;
+	int[] seatsPolls;
+	int[] votesPolls;
+
+	/**
+	 * Creates empty totals for a number of parties.
+	 *
+	 * @param numOfParties The number of parties to keep totals for.
+	 */
+	PartySums(int numOfParties) {
+		seats = new float[numOfParties];
+		votes = new float[numOfParties];
+		seatsPolls = new int[numOfParties];
+		votesPolls = new int[numOfParties];
+	}
+
+	/**
+	 * Sets all the totals back to zero.
+	 */
+	void clear() {
+		Arrays.fill(seats, 0);
+		Arrays.fill(votes, 0);
+		Arrays.fill(seatsPolls, 0);
+		Arrays.fill(votesPolls, 0);
+	}
+
+	/**
+	 * Adds one poll's projections for a party to the totals.
+	 *
+	 * @param party      The position of the party in the totals.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 */
+	void add(int party, float partySeats, float partyVotes) {
+		if (partySeats > 0) {
+			seats[party] += partySeats;
+			seatsPolls[party]++;
+		}
+		if (partyVotes > 0) {
+			votes[party] += partyVotes;
+			votesPolls[party]++;
+		}
+	}
+
+	/**
+	 * Adds the totals of another set of polls to these totals.
+	 *
+	 * @param other The totals to add, which must be for the same parties.
+	 */
+	void merge(PartySums other) {
+		for (int party = 0; party < seats.length; party++) {
+			seats[party] += other.seats[party];
+			votes[party] += other.votes[party];
+			seatsPolls[party] += other.seatsPolls[party];
+			votesPolls[party] += other.votesPolls[party];
+		}
+	}
+
+	/**
+	 * Creates a party with the average projections of a party in the totals.
+	 *
+	 * @param name  The name to give the party.
+	 * @param party The position of the party in the totals, or -1 if the party
+	 *              isn't in any poll.
+	 * @return The party with its average number of seats and percentage of votes.
+	 */
+	Party average(String name, int party) {
+		Party avgParty = new Party(name);
+		if (party < 0)
+			return avgParty;
+		if (seatsPolls[party] > 0)
+			avgParty.setProjectedNumberOfSeats(seats[party] / seatsPolls[party]);
+		if (votesPolls[party] > 0)
+			avgParty.setProjectedPercentageOfVotes(votes[party] / votesPolls[party]);
+		return avgParty;
+	}
+}
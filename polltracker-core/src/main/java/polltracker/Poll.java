@@ -0,0 +1,600 @@
+package polltracker;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The Poll class represents a single poll. It allows the user to name the poll,
+ * add parties to the poll, and retrieve information about parties that have
+ * been added to the poll.
+ * 
+ * @author Sebastian Reinberg-Abernethy
+ * @version 1.0
+ * @since 2021-11-22
+ *
+ */
+public class Poll {
+
+	private String name;
+	private Party[] parties;
+
+	// The day the poll was taken, or null if it isn't known
+	private LocalDate date;
+
+	// The number of people asked in the poll, or 0 if it isn't known
+	private int sampleSize;
+	private int partiesInPoll = 0;
+
+	// The most parties this poll can hold, or 0 if the poll has no limit
+	private int maxParties;
+
+	// Initial size of the parties array, which grows as parties are added
+	private static final int INITIAL_CAPACITY = 10;
+
+	// The dictionary id of the party in each slot of the parties array, so that
+	// lookups and duplicate checks compare ids instead of names.
+	private int[] partyIds;
+
+	// The dictionary the ids come from. A poll created without one makes its own
+	// the first time it needs it, and takes on the dictionary of the first list
+	// it is added to.
+	private PartyDictionary dictionary;
+
+	// Once the poll has more parties than are quicker to scan, maps party ids to
+	// slots with open addressing. Each entry is a slot plus one, or 0 if empty.
+	private int[] slotTable;
+	private static final int SCAN_LIMIT = 8;
+
+	// The poll lists this poll has been added to, which are told when a party is
+	// added, replaced or changed so they can keep their running totals up to
+	// date, and the position of this poll in each of them. A poll added to the
+	// same list twice is in these arrays twice.
+	private PollList[] lists = NO_LISTS;
+	private int[] listPositions = new int[0];
+	private static final PollList[] NO_LISTS = new PollList[0];
+
+	// Counts parties added to, replaced in and changed in the poll, which is the
+	// stamp that cached visualizations are checked against.
+	private int modCount = 0;
+	private volatile CachedRender seatsRender;
+	private volatile CachedRender votesRender;
+
+	/**
+	 * 
+	 * @param aName
+	 * @param maxParties This is the constructor for the poll class, it initializes
+	 *                   the poll, sets the name of the poll, and sets the maximum
+	 *                   number of parties allowed in the poll.
+	 */
+	public Poll(String aName, int maxParties) {
+
+		/**
+		 * If the user gives a maximum number of parties less than 1 then the poll has
+		 * no limit on the number of parties. The parties array starts small and grows
+		 * as parties are added, so large limits don't allocate room up front.
+		 */
+
+		if (maxParties < 1) {
+			maxParties = 0;
+		}
+		this.maxParties = maxParties;
+		name = aName;
+		if (maxParties == 0 || maxParties > INITIAL_CAPACITY) {
+			parties = new Party[INITIAL_CAPACITY];
+		} else {
+			parties = new Party[maxParties];
+		}
+		partyIds = new int[parties.length];
+	}
+
+	/**
+	 * This constructor initializes a poll taken on a given day, so it can be
+	 * included in averages over recent polls. The date can't be changed once the
+	 * poll is created.
+	 * 
+	 * @param aName
+	 * @param maxParties
+	 * @param date
+	 */
+	public Poll(String aName, int maxParties, LocalDate date) {
+		this(aName, maxParties);
+		this.date = date;
+	}
+
+	/**
+	 * This constructor initializes a poll whose parties are given ids by a
+	 * dictionary, usually the dictionary of the list it will be added to, so the
+	 * list can match its parties by id
+	 * 
+	 * @param aName
+	 * @param maxParties
+	 * @param date       the day the poll was taken, or null if it isn't known
+	 * @param dictionary
+	 */
+	public Poll(String aName, int maxParties, LocalDate date, PartyDictionary dictionary) {
+		this(aName, maxParties, date);
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * This getter method returns the day the poll was taken
+	 * 
+	 * @return date, or null if the day isn't known
+	 */
+	public LocalDate getDate() {
+		return date;
+	}
+
+	/**
+	 * This getter method returns the number of people asked in the poll
+	 * 
+	 * @return sampleSize, or 0 if it isn't known
+	 */
+	public int getSampleSize() {
+		return sampleSize;
+	}
+
+	/**
+	 * This setter method sets the number of people asked in the poll, which is
+	 * used to weight the poll in PollList.getWeightedPartyEstimates. A negative
+	 * sample size is reported as an error and ignored.
+	 * 
+	 * @param sampleSize
+	 */
+	public void setSampleSize(int sampleSize) {
+		if (sampleSize < 0) {
+			Diagnostics.report(Diagnostics.Problem.NEGATIVE_SAMPLE_SIZE);
+			return;
+		}
+		this.sampleSize = sampleSize;
+	}
+
+	/**
+	 * This getter method returns the name of the poll
+	 * 
+	 * @return name
+	 */
+	public String getPollName() {
+		return name;
+	}
+
+	/**
+	 * This getter method returns the array of the parties in the poll. Only the
+	 * first getNumberOfParties() slots of the array hold parties.
+	 * 
+	 * @return parties
+	 */
+	public Party[] getParties() {
+		return parties;
+	}
+
+	/**
+	 * This getter method returns the number of parties inside the poll
+	 * 
+	 * @return partiesInPoll
+	 */
+	public int getPartiesInPoll() {
+		return partiesInPoll;
+	}
+
+	/**
+	 * This method takes the name of a party as an argument and checks whether that
+	 * party is in the poll. If the party is in the poll the method will return that
+	 * party, otherwise the method will return null
+	 * 
+	 * @param partyName
+	 * @return aParty or null
+	 */
+	public Party getParty(String partyName) {
+
+		// Party names are matched ignoring case by the dictionary, which gives every
+		// spelling of a name the same id
+		int slot = findSlot(getDictionary().findId(partyName));
+		if (slot < 0) {
+			return null;
+		}
+		return parties[slot];
+	}
+
+	/**
+	 * This method returns the party with a dictionary id if it is in the poll, so
+	 * callers that have already looked up the id don't look up the name again
+	 * 
+	 * @param partyId
+	 * @return aParty or null
+	 */
+	Party getParty(int partyId) {
+		int slot = findSlot(partyId);
+		if (slot < 0) {
+			return null;
+		}
+		return parties[slot];
+	}
+
+	/**
+	 * This method returns the dictionary id of the party at a position in the
+	 * parties array
+	 * 
+	 * @param slot
+	 * @return partyId
+	 */
+	int getPartyId(int slot) {
+		return partyIds[slot];
+	}
+
+	/**
+	 * This method returns the dictionary that gives the parties in the poll their
+	 * ids, creating one if the poll doesn't have one yet
+	 * 
+	 * @return dictionary
+	 */
+	PartyDictionary getDictionary() {
+		if (dictionary == null) {
+			dictionary = new PartyDictionary();
+		}
+		return dictionary;
+	}
+
+	/**
+	 * This method returns the number of parties currently in the poll
+	 * 
+	 * @return numParties
+	 */
+	public int getNumberOfParties() {
+		return partiesInPoll;
+	}
+
+	/**
+	 * This method adds parties to the poll, and takes a party as a parameter.
+	 * 
+	 * If the given party has the same name as another party already in the parties
+	 * array, the existing party is replaced by the party provided as an argument.
+	 * If no party with the same name exists in the poll, this party is added at the
+	 * end of the list and the partiesInPoll instance variable is incremented by
+	 * one. The parties array grows when it is full, but if the poll already holds
+	 * its maximum number of parties, there is an error message that the poll is
+	 * full and no further parties can be added.
+	 * 
+	 * @param aParty
+	 */
+	public void addParty(Party aParty) {
+
+		// Check to ensure the given party isn't null
+		if (aParty == null) {
+			Diagnostics.report(Diagnostics.Problem.NULL_PARTY);
+			return;
+		}
+
+		// Check to ensure that the given party isn't already in the poll
+		int partyId = getDictionary().getId(aParty.getName());
+		int slot = findSlot(partyId);
+		Party replaced = replaceDuplicate(aParty, slot);
+		if (replaced != null) {
+			modCount++;
+			if (replaced != aParty) {
+				replaced.removePoll(this);
+				aParty.addPoll(this);
+			}
+			for (int i = 0; i < lists.length; i++) {
+				lists[i].partyReplaced(this, listPositions[i], slot, replaced, aParty);
+			}
+
+			// Next if statements ensure that the poll isn't full
+		} else if (maxParties == 0 || partiesInPoll < maxParties) {
+			if (partiesInPoll == parties.length) {
+				grow();
+			}
+			parties[partiesInPoll] = aParty;
+			partyIds[partiesInPoll] = partyId;
+			partiesInPoll++;
+			modCount++;
+			indexSlot(partiesInPoll - 1);
+			aParty.addPoll(this);
+			for (int i = 0; i < lists.length; i++) {
+				lists[i].partyAdded(this, listPositions[i], partiesInPoll - 1, aParty);
+			}
+		} else {
+			Diagnostics.report(Diagnostics.Problem.POLL_FULL);
+		}
+	}
+
+	/**
+	 * Private method that doubles the size of the parties array, without going
+	 * past the maximum number of parties
+	 */
+	private void grow() {
+		int newLength = parties.length * 2;
+		if (maxParties != 0 && newLength > maxParties) {
+			newLength = maxParties;
+		}
+		parties = Arrays.copyOf(parties, newLength);
+		partyIds = Arrays.copyOf(partyIds, newLength);
+	}
+
+	/**
+	 * Private method that finds the slot in the parties array of the party with a
+	 * dictionary id, scanning the ids of small polls and probing the slot table of
+	 * larger ones
+	 * 
+	 * @param partyId
+	 * @return the slot, or -1 if the party isn't in the poll
+	 */
+	private int findSlot(int partyId) {
+		if (partyId < 0) {
+			return -1;
+		}
+		if (slotTable == null) {
+			for (int i = 0; i < partiesInPoll; i++) {
+				if (partyIds[i] == partyId) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		int mask = slotTable.length - 1;
+		for (int i = spread(partyId) & mask; slotTable[i] != 0; i = (i + 1) & mask) {
+			if (partyIds[slotTable[i] - 1] == partyId) {
+				return slotTable[i] - 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Private method that adds a newly filled slot to the slot table, creating the
+	 * table when the poll grows past the number of parties that are scanned, and
+	 * doubling it whenever it gets half full
+	 * 
+	 * @param slot
+	 */
+	private void indexSlot(int slot) {
+		if (partiesInPoll <= SCAN_LIMIT) {
+			return;
+		}
+		if (slotTable == null || partiesInPoll * 2 > slotTable.length) {
+			rebuildSlotTable();
+		} else {
+			putSlot(slot);
+		}
+	}
+
+	/**
+	 * Private method that creates the slot table again from the ids of every
+	 * party, with room for the poll to double before it is half full
+	 */
+	private void rebuildSlotTable() {
+		slotTable = new int[Integer.highestOneBit(partiesInPoll) * 4];
+		for (int i = 0; i < partiesInPoll; i++) {
+			putSlot(i);
+		}
+	}
+
+	/**
+	 * Private method that puts one slot in the first free entry of the slot table
+	 * for its party id
+	 * 
+	 * @param slot
+	 */
+	private void putSlot(int slot) {
+		int mask = slotTable.length - 1;
+		int i = spread(partyIds[slot]) & mask;
+		while (slotTable[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		slotTable[i] = slot + 1;
+	}
+
+	/**
+	 * Method that scatters party ids, which are handed out in order, across the
+	 * slot table
+	 * 
+	 * @param partyId
+	 * @return the scattered id
+	 */
+	private static int spread(int partyId) {
+		int h = partyId * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Method returns a visual representation of the parties in the poll and their
+	 * data, as determined by the number of seats a party is expected to win
+	 * 
+	 * The parameters maxStars and numOfSeatsPerStar are the two arguments that need
+	 * to be passed to the party’s textVisualizationBySeats method
+	 * 
+	 * @param maxStars
+	 * @param numOfSeatsPerStar
+	 * @return data
+	 */
+	public String textVisualizationBySeats(int maxStars, double numOfSeatsPerStar) {
+		long stamp = renderStamp();
+		CachedRender cached = seatsRender;
+		String rendered = cached == null ? null : cached.get(maxStars, numOfSeatsPerStar, stamp);
+		if (rendered != null) {
+			return rendered;
+		}
+
+		StringBuilder partyInfo = new StringBuilder(name).append('\n');
+
+		// This will append the string representation of the parties and their data to
+		// the local variable "partyInfo"
+		if (partiesInPoll > 1) {
+			for (int i = 0; i < partiesInPoll; i++) {
+				partyInfo.append(parties[i].textVisualizationBySeats(maxStars, numOfSeatsPerStar)).append('\n');
+			}
+
+			// Special case for if there is only one party in the poll, as in this case the
+			// party array at index 1 will be null
+		} else if (partiesInPoll == 1) {
+			partyInfo.append(parties[0].textVisualizationBySeats(maxStars, numOfSeatsPerStar));
+		}
+
+		rendered = partyInfo.toString();
+		seatsRender = new CachedRender(maxStars, numOfSeatsPerStar, stamp, rendered);
+		return rendered;
+	}
+
+	/**
+	 * Method returns a visual representation of the parties in the poll and their
+	 * data, as determined by the number of votes a party is expected to get
+	 * 
+	 * @param maxStars
+	 * @param percentOfVotesPerStar
+	 * @return data
+	 */
+	public String textVisualizationByVotes(int maxStars, double percentOfVotesPerStar) {
+		long stamp = renderStamp();
+		CachedRender cached = votesRender;
+		String rendered = cached == null ? null : cached.get(maxStars, percentOfVotesPerStar, stamp);
+		if (rendered != null) {
+			return rendered;
+		}
+
+		StringBuilder partyInfo = new StringBuilder(name).append('\n');
+
+		// This will append the string representation of the parties and their data to
+		// the local variable "partyInfo"
+		if (partiesInPoll > 1) {
+			for (int i = 0; i < partiesInPoll; i++) {
+				partyInfo.append(parties[i].textVisualizationByVotes(maxStars, percentOfVotesPerStar)).append('\n');
+			}
+
+			// Special case for if there is only one party in the poll, as in this case the
+			// party array at index 1 will be null
+		} else if (partiesInPoll == 1) {
+			partyInfo.append(parties[0].textVisualizationByVotes(maxStars, percentOfVotesPerStar));
+		}
+
+		rendered = partyInfo.toString();
+		votesRender = new CachedRender(maxStars, percentOfVotesPerStar, stamp, rendered);
+		return rendered;
+	}
+
+	/**
+	 * Method returns the name of the poll and the names of the parties inside the
+	 * poll
+	 */
+	public String toString() {
+		StringBuilder partyNames = new StringBuilder(name).append('\n');
+
+		// This will append the names of the parties to the local variable "partyNames"
+		if (partiesInPoll > 1) {
+			for (int i = 0; i < partiesInPoll; i++) {
+				partyNames.append(parties[i].toString()).append('\n');
+			}
+
+			// Special case for if there is only one party in the poll, as in this case the
+			// party array at index 1 will be null
+		} else if (partiesInPoll == 1) {
+			partyNames.append(parties[0].getName());
+		}
+		return partyNames.toString();
+	}
+
+	/**
+	 * Private method to check whether a party is inside a poll. If it is, the
+	 * existing party is replaced by the party given as an argument, keeping the
+	 * same slot in the parties array.
+	 * 
+	 * @param partyToCheck
+	 * @param slot the slot of the party with the same name, or -1 if there isn't one
+	 * @return the party that was replaced, or null if the party wasn't in the poll
+	 */
+	private Party replaceDuplicate(Party partyToCheck, int slot) {
+		if (slot < 0) {
+			return null;
+		}
+		Party replaced = parties[slot];
+		parties[slot] = partyToCheck;
+		return replaced;
+	}
+
+	/**
+	 * Method called by a poll list when this poll is added to it, so the list is
+	 * told about parties added to, replaced in or changed in this poll afterwards.
+	 * If this is the first list the poll is added to, the poll takes on the
+	 * list's dictionary so the list can match its parties by id
+	 * 
+	 * @param list
+	 * @param position the position of this poll in the list
+	 */
+	void addList(PollList list, int position) {
+		if (lists.length == 0 && dictionary != list.getDictionary()) {
+			dictionary = list.getDictionary();
+			for (int i = 0; i < partiesInPoll; i++) {
+				partyIds[i] = dictionary.getId(parties[i].getName());
+			}
+			if (slotTable != null) {
+				rebuildSlotTable();
+			}
+		}
+		lists = Arrays.copyOf(lists, lists.length + 1);
+		lists[lists.length - 1] = list;
+		listPositions = Arrays.copyOf(listPositions, listPositions.length + 1);
+		listPositions[listPositions.length - 1] = position;
+	}
+
+	/**
+	 * Method called by a party in this poll when it has been changed through its
+	 * setters. If the party was renamed its slot is given the id of the new name,
+	 * so it is found by its new name and not its old one, and the lists this poll
+	 * is in are told so they can update their totals
+	 * 
+	 * @param aParty
+	 * @param oldName  the name of the party before the change
+	 * @param oldSeats the projected number of seats before the change
+	 * @param oldVotes the projected percentage of votes before the change
+	 */
+	void partyChanged(Party aParty, String oldName, float oldSeats, float oldVotes) {
+		int slot = findSlot(getDictionary().findId(oldName));
+		if (slot < 0 || parties[slot] != aParty) {
+			slot = -1;
+			for (int i = 0; i < partiesInPoll && slot < 0; i++) {
+				if (parties[i] == aParty) {
+					slot = i;
+				}
+			}
+			if (slot < 0) {
+				return;
+			}
+		}
+
+		int partyId = getDictionary().getId(aParty.getName());
+		if (partyId != partyIds[slot]) {
+			partyIds[slot] = partyId;
+			if (slotTable != null) {
+				rebuildSlotTable();
+			}
+		}
+		modCount++;
+		for (int i = 0; i < lists.length; i++) {
+			lists[i].partyChanged(this, listPositions[i], slot, aParty, oldName, oldSeats, oldVotes);
+		}
+	}
+
+	/**
+	 * Method that returns a stamp of the parties in the poll and their data, which
+	 * changes whenever a party is added or replaced or one of the parties is changed
+	 * through its setters, and never goes back to an earlier value. Cached
+	 * visualizations are only used while the stamp is the same as when they were
+	 * rendered
+	 * 
+	 * @return the stamp
+	 */
+	long renderStamp() {
+		return modCount;
+	}
+
+	/**
+	 * Method that folds a party name to the key used in the party dictionary, so
+	 * that names differing only by case map to the same party
+	 * 
+	 * @param partyName
+	 * @return the case-folded name
+	 */
+	static String foldName(String partyName) {
+		return partyName.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+	}
+}
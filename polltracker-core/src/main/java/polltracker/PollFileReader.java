@@ -0,0 +1,393 @@
+package polltracker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Reads polls from CSV or JSON lines files into a PollList. Files are read one
+ * line at a time, and each poll is added to the list as soon as all of its rows
+ * have been read, so files of any size can be loaded without holding them in
+ * memory.
+ *
+ * Each row describes one party in one poll. CSV files have the columns
+ * poll,party,seats,votes followed by optional date and sample columns (fields
+ * containing commas can be quoted, and a header row with those names is
+ * skipped). JSON lines files have one object per line, such as {"poll": "Poll
+ * 1", "party": "Party A", "seats": 150, "votes": 0.34, "date": "2021-11-22",
+ * "sample": 1000}. Dates are in the ISO format, and a poll takes its date and
+ * sample size from its first row.
+ * Consecutive rows with the same poll name belong to the same poll. Rows that
+ * can't be read are skipped with an error message.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PollFileReader {
+	// The positions of each value in the fields array.
+	private static final int POLL = 0;
+	private static final int PARTY = 1;
+	private static final int SEATS = 2;
+	private static final int VOTES = 3;
+	private static final int DATE = 4;
+	private static final int SAMPLE = 5;
+	private static final String[] FIELD_NAMES = { "poll", "party", "seats", "votes", "date", "sample" };
+
+	private PollList pollList;
+	// Gives the parties read their ids and keeps one copy of each spelling.
+	private PartyDictionary dictionary;
+	private String[] fields = new String[FIELD_NAMES.length];
+	private StringBuilder token = new StringBuilder();
+	private Poll currentPoll;
+	private long rowsRead = 0;
+	private long rowsSkipped = 0;
+
+	/**
+	 * Creates a reader that adds the polls it reads to a PollList.
+	 *
+	 * @param pollList The list to add polls to.
+	 */
+	public PollFileReader(PollList pollList) {
+		this(pollList, pollList.getDictionary());
+	}
+
+	/**
+	 * Creates a reader that adds the polls it reads to a PollList, keeping one
+	 * copy of each party name in a dictionary. If it isn't the list's dictionary,
+	 * each poll's parties are given ids again by the list's when it is added.
+	 *
+	 * @param pollList   The list to add polls to.
+	 * @param dictionary The dictionary to give the parties read their ids.
+	 */
+	public PollFileReader(PollList pollList, PartyDictionary dictionary) {
+		this.pollList = pollList;
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * Gets the number of party rows read into polls so far.
+	 *
+	 * @return The number of rows read.
+	 */
+	public long getRowsRead() {
+		return this.rowsRead;
+	}
+
+	/**
+	 * Gets the number of rows skipped so far because they couldn't be read.
+	 *
+	 * @return The number of rows skipped.
+	 */
+	public long getRowsSkipped() {
+		return this.rowsSkipped;
+	}
+
+	/**
+	 * Reads a file of polls, using the JSON lines format if the file name ends in
+	 * .jsonl or .json and the CSV format otherwise.
+	 *
+	 * @param file The file to read.
+	 * @throws IOException If the file can't be read.
+	 */
+	public void read(Path file) throws IOException {
+		String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+		try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			if (fileName.endsWith(".jsonl") || fileName.endsWith(".json"))
+				this.readJsonLines(in);
+			else
+				this.readCsv(in);
+		}
+	}
+
+	/**
+	 * Reads polls in the CSV format until the end of the input.
+	 *
+	 * @param in The input to read.
+	 * @throws IOException If the input can't be read.
+	 */
+	public void readCsv(BufferedReader in) throws IOException {
+		String line;
+		boolean firstLine = true;
+		while ((line = in.readLine()) != null) {
+			if (line.isEmpty())
+				continue;
+			boolean parsed = this.parseCsvLine(line);
+
+			// Skip the header row
+			if (firstLine && parsed && this.fields[SEATS].equalsIgnoreCase(FIELD_NAMES[SEATS])) {
+				firstLine = false;
+				continue;
+			}
+			firstLine = false;
+			this.addRow(parsed, line);
+		}
+		this.finishPoll();
+	}
+
+	/**
+	 * Reads polls in the JSON lines format until the end of the input.
+	 *
+	 * @param in The input to read.
+	 * @throws IOException If the input can't be read.
+	 */
+	public void readJsonLines(BufferedReader in) throws IOException {
+		String line;
+		while ((line = in.readLine()) != null) {
+			if (line.trim().isEmpty())
+				continue;
+			this.addRow(this.parseJsonLine(line), line);
+		}
+		this.finishPoll();
+	}
+
+	/**
+	 * Adds the party in the fields array to the current poll, starting a new poll
+	 * if the poll name has changed.
+	 *
+	 * @param parsed Whether the line was parsed into the fields array.
+	 * @param line   The line the fields came from, used in error messages.
+	 */
+	private void addRow(boolean parsed, String line) {
+		if (!parsed || this.fields[POLL] == null || this.fields[PARTY] == null || this.fields[SEATS] == null
+				|| this.fields[VOTES] == null) {
+			this.skipRow(line);
+			return;
+		}
+		float seats, votes;
+		LocalDate date = null;
+		int sampleSize = 0;
+		try {
+			seats = Float.parseFloat(this.fields[SEATS]);
+			votes = Float.parseFloat(this.fields[VOTES]);
+			if (this.fields[DATE] != null && !this.fields[DATE].isEmpty())
+				date = LocalDate.parse(this.fields[DATE]);
+			if (this.fields[SAMPLE] != null && !this.fields[SAMPLE].isEmpty())
+				sampleSize = Integer.parseInt(this.fields[SAMPLE]);
+		} catch (NumberFormatException | DateTimeParseException e) {
+			this.skipRow(line);
+			return;
+		}
+		// Seats can't be negative and the share of the vote is a fraction, so a row
+		// with a percentage such as 32.5 is skipped rather than read as 3250%
+		if (sampleSize < 0 || !(seats >= 0) || !(votes >= 0 && votes <= 1)) {
+			this.skipRow(line);
+			return;
+		}
+
+		if (this.currentPoll == null || !this.currentPoll.getPollName().equals(this.fields[POLL])) {
+			this.finishPoll();
+			this.currentPoll = new Poll(this.fields[POLL], 0, date, this.dictionary);
+			this.currentPoll.setSampleSize(sampleSize);
+		}
+		// Every row reads a new copy of the party's name, so share the dictionary's
+		this.currentPoll.addParty(new Party(this.dictionary.intern(this.fields[PARTY]), seats, votes));
+		this.rowsRead++;
+	}
+
+	/**
+	 * Counts a row that can't be read and reports it to Diagnostics.
+	 *
+	 * @param line The row that was skipped.
+	 */
+	private void skipRow(String line) {
+		Diagnostics.report(Diagnostics.Problem.UNREADABLE_ROW, line);
+		this.rowsSkipped++;
+	}
+
+	/**
+	 * Adds the poll being read to the list.
+	 */
+	private void finishPoll() {
+		if (this.currentPoll != null)
+			this.pollList.addPoll(this.currentPoll);
+		this.currentPoll = null;
+	}
+
+	/**
+	 * Splits a CSV line into the fields array. Fields may be quoted with double
+	 * quotes, and a doubled quote inside a quoted field is a literal quote.
+	 *
+	 * @param line The line to split.
+	 * @return Whether the line had the right number of fields, with or without the
+	 *         optional fields.
+	 */
+	private boolean parseCsvLine(String line) {
+		this.fields[DATE] = null;
+		this.fields[SAMPLE] = null;
+		int field = 0;
+		int i = 0;
+		int length = line.length();
+		while (true) {
+			if (field == this.fields.length)
+				return false;
+			this.token.setLength(0);
+			if (i < length && line.charAt(i) == '"') {
+				i++;
+				while (i < length) {
+					char c = line.charAt(i++);
+					if (c != '"') {
+						this.token.append(c);
+					} else if (i < length && line.charAt(i) == '"') {
+						this.token.append('"');
+						i++;
+					} else {
+						break;
+					}
+				}
+			}
+			while (i < length && line.charAt(i) != ',') {
+				this.token.append(line.charAt(i++));
+			}
+			this.fields[field++] = this.token.toString().trim();
+			if (i >= length)
+				break;
+			i++;
+		}
+		return field >= DATE;
+	}
+
+	/**
+	 * Reads a JSON object with string and number values into the fields array.
+	 * Keys other than poll, party, seats, votes, date and sample are ignored.
+	 *
+	 * @param line The line holding the object.
+	 * @return Whether the line held a valid object.
+	 */
+	private boolean parseJsonLine(String line) {
+		for (int field = 0; field < this.fields.length; field++)
+			this.fields[field] = null;
+
+		int i = this.skipWhitespace(line, 0);
+		if (i >= line.length() || line.charAt(i) != '{')
+			return false;
+		i = this.skipWhitespace(line, i + 1);
+		if (i < line.length() && line.charAt(i) == '}')
+			return true;
+
+		while (i < line.length()) {
+			// Key
+			if (line.charAt(i) != '"')
+				return false;
+			i = this.readJsonString(line, i + 1);
+			if (i < 0)
+				return false;
+			int field = this.fieldIndex(this.token);
+			i = this.skipWhitespace(line, i);
+			if (i >= line.length() || line.charAt(i) != ':')
+				return false;
+			i = this.skipWhitespace(line, i + 1);
+
+			// Value, either a string or a bare number, true, false or null
+			if (i < line.length() && line.charAt(i) == '"') {
+				i = this.readJsonString(line, i + 1);
+				if (i < 0)
+					return false;
+			} else {
+				this.token.setLength(0);
+				while (i < line.length() && ",} \t".indexOf(line.charAt(i)) < 0) {
+					this.token.append(line.charAt(i++));
+				}
+			}
+			if (field >= 0)
+				this.fields[field] = this.token.toString();
+
+			i = this.skipWhitespace(line, i);
+			if (i >= line.length())
+				return false;
+			if (line.charAt(i) == '}')
+				return true;
+			if (line.charAt(i) != ',')
+				return false;
+			i = this.skipWhitespace(line, i + 1);
+		}
+		return false;
+	}
+
+	/**
+	 * Reads a JSON string into the token, starting after the opening quote.
+	 *
+	 * @param line  The line holding the string.
+	 * @param start The index after the opening quote.
+	 * @return The index after the closing quote, or -1 if the string isn't closed.
+	 */
+	private int readJsonString(String line, int start) {
+		this.token.setLength(0);
+		int i = start;
+		while (i < line.length()) {
+			char c = line.charAt(i++);
+			if (c == '"')
+				return i;
+			if (c != '\\') {
+				this.token.append(c);
+				continue;
+			}
+			if (i >= line.length())
+				return -1;
+			char escaped = line.charAt(i++);
+			switch (escaped) {
+			case 'n':
+				this.token.append('\n');
+				break;
+			case 't':
+				this.token.append('\t');
+				break;
+			case 'r':
+				this.token.append('\r');
+				break;
+			case 'b':
+				this.token.append('\b');
+				break;
+			case 'f':
+				this.token.append('\f');
+				break;
+			case 'u':
+				if (i + 4 > line.length())
+					return -1;
+				try {
+					this.token.append((char) Integer.parseInt(line.substring(i, i + 4), 16));
+				} catch (NumberFormatException e) {
+					return -1;
+				}
+				i += 4;
+				break;
+			default:
+				this.token.append(escaped);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the position in the fields array of a key.
+	 *
+	 * @param key The key to look for.
+	 * @return The position of the key, or -1 if the key isn't one of the fields.
+	 */
+	private int fieldIndex(CharSequence key) {
+		for (int field = 0; field < FIELD_NAMES.length; field++) {
+			if (FIELD_NAMES[field].contentEquals(key))
+				return field;
+		}
+		return -1;
+	}
+
+	/**
+	 * Skips spaces and tabs.
+	 *
+	 * @param line  The line to skip whitespace in.
+	 * @param start The index to start at.
+	 * @return The index of the next character that isn't whitespace.
+	 */
+	private int skipWhitespace(String line, int start) {
+		int i = start;
+		while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+}
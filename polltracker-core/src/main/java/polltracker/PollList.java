@@ -0,0 +1,1039 @@
+package polltracker;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class combines a number of polls from the same election. It can be used
+ * to extract aggregate data about the polls or data relating to parties in the
+ * polls.
+ * 
+ * @author gabe
+ * @version 1.1.2
+ * @since 2021-11-29
+ */
+public class PollList {
+	// Used for text visualizations of poll/party data.
+	public int MAX_STARS_FOR_VISUALIZATION = 18;
+	// The polls in the list. Subclasses that store their polls another way leave
+	// this empty, so it is only read through toArray.
+	private Poll[] polls = new Poll[5];
+	// The number of polls added so far, which is also the index of the next poll.
+	private int pollsInList = 0;
+	// The total number of seats available across all polls.
+	private int numOfSeats = 10;
+	// Polls are summed in chunks of this many polls whether or not the sums are
+	// done in parallel, so both ways add the same numbers in the same order.
+	static final int POLLS_PER_CHUNK = 1024;
+	// Gives the parties in the list their ids, shared with the polls added to it.
+	private final PartyDictionary dictionary;
+	// Totals of every party's projections, updated as polls and parties are added.
+	private RunningPartySums runningSums;
+	// Totals over recent dated polls, created the first time each window or
+	// half-life is asked for and then updated as polls and parties are added.
+	private HashMap<Integer, DatedPartySums> windows = new HashMap<Integer, DatedPartySums>();
+	private HashMap<Double, DatedPartySums> decays = new HashMap<Double, DatedPartySums>();
+	private ArrayList<DatedPartySums> datedSums = new ArrayList<DatedPartySums>();
+	// The polls each party is in, so averages only visit those polls. Polls of a
+	// subclass of Poll may find their parties their own way, so they aren't
+	// recorded and are asked for every party by name instead, as are polls
+	// already using the dictionary of another list.
+	private PartyMembership membership = new PartyMembership();
+	private BitSet unindexedPolls = new BitSet();
+	// Sketches of every party's projections, updated as polls and parties are
+	// added. A sketch can't take a value back out, so replacing or changing a
+	// party marks them stale and they are built again from the polls when next
+	// read.
+	private PartyQuantiles quantiles;
+	private boolean quantilesStale = false;
+	// Counts polls added and parties added to, replaced in or changed in the
+	// polls, which is the stamp that the cached visualizations and aggregate are
+	// checked against.
+	private long modCount = 0;
+	// The last visualizations and aggregate, reused until the stamp of the list
+	// changes.
+	private volatile CachedRender seatsRender;
+	private volatile CachedRender votesRender;
+	private volatile CachedAggregate lastAggregate;
+
+	/**
+	 * Creates an new, empty PollList with a specified number of seats and polls.
+	 * The list grows if more polls than numOfPolls are added.
+	 * 
+	 * @param numOfPolls This is the number of polls in the election represented by
+	 *                   the PollList object
+	 * @param numOfSeats This is of seats available in the election
+	 */
+	public PollList(int numOfPolls, int numOfSeats) {
+		this(numOfPolls, numOfSeats, new PartyDictionary());
+	}
+
+	/**
+	 * Creates an new, empty PollList whose parties are given ids by a dictionary,
+	 * which can be shared with the polls added to it and with other lists.
+	 * 
+	 * @param numOfPolls The number of polls to make room for.
+	 * @param numOfSeats The number of seats available in the election.
+	 * @param dictionary The dictionary that gives the parties their ids.
+	 */
+	public PollList(int numOfPolls, int numOfSeats, PartyDictionary dictionary) {
+		if (numOfPolls > 0)
+			this.polls = new Poll[numOfPolls];
+		if (numOfSeats > 0)
+			this.numOfSeats = numOfSeats;
+		this.dictionary = dictionary;
+		this.runningSums = new RunningPartySums(dictionary);
+		this.quantiles = new PartyQuantiles(dictionary);
+	}
+
+	/**
+	 * Gets the dictionary that gives the parties in the list their ids.
+	 * 
+	 * @return The dictionary.
+	 */
+	public PartyDictionary getDictionary() {
+		return this.dictionary;
+	}
+
+	public Poll[] toArray() {
+		return this.polls;
+	}
+
+	/**
+	 * Gets the totals of every party's projections, for subclasses that add their
+	 * polls to them by party id.
+	 * 
+	 * @return The totals.
+	 */
+	RunningPartySums runningSums() {
+		return this.runningSums;
+	}
+
+	/**
+	 * Gets the record of the polls each party is in, for subclasses that record
+	 * their polls by party id.
+	 * 
+	 * @return The record of polls.
+	 */
+	PartyMembership membership() {
+		return this.membership;
+	}
+
+	/**
+	 * Gets the poll at a position for a scan over the list. Subclasses that keep
+	 * their own polls return them without copying, so the poll is only read and
+	 * never handed out.
+	 * 
+	 * @param index The position of the poll in the list.
+	 * @return The poll, or null if there is no poll at that position.
+	 */
+	Poll scanPoll(int index) {
+		return this.polls[index];
+	}
+
+	public int getNumOfSeats() {
+		return this.numOfSeats;
+	}
+
+	/**
+	 * Gets the number of polls that have been added to the list.
+	 * 
+	 * @return The number of polls in the list.
+	 */
+	public int getNumOfPolls() {
+		return this.pollsInList;
+	}
+	
+	public int getAmountPerStar(String seatsOrVotes) {
+		int amountPerStar = 0;
+		switch (seatsOrVotes) {
+		case "seats":
+			amountPerStar = this.numOfSeats / this.MAX_STARS_FOR_VISUALIZATION;
+			break;
+		case "votes":
+			amountPerStar = 100 / this.MAX_STARS_FOR_VISUALIZATION;
+			break;
+		}
+		if (amountPerStar < 1.0 * this.numOfSeats / this.MAX_STARS_FOR_VISUALIZATION)
+			amountPerStar++;
+		return amountPerStar;
+	}
+	
+	/**
+	 * Displays the total number of seats in the election as well as a visual
+	 * representation of each poll
+	 */
+	public String toString() {
+		return "Number of seats: " + this.getNumOfSeats() + '\n' + this.cachedTextVisualization("seats");
+	}
+
+	/**
+	 * Displays a visual representation of each poll, based on the projected number
+	 * of seats attained.
+	 * 
+	 * @return string The complete, multi-line visualization of each poll, based on
+	 *         seats
+	 */
+	public String textVisualizationBySeats() {
+		return this.cachedTextVisualization("seats");
+	}
+
+
+	/**
+	 * Displays a visual representation of each poll, based on projected percentage
+	 * of votes attained.
+	 * 
+	 * @return string The complete, multi-line visualization of each poll, based on
+	 *         percentage of votes.
+	 */
+	public String textVisualizationByVotes() {
+		return this.cachedTextVisualization("votes");
+	}
+
+	/**
+	 * Writes a visual representation of each poll to a Writer, StringBuilder or
+	 * other Appendable, one poll at a time, so large lists can be displayed without
+	 * building the whole visualization in memory first.
+	 * 
+	 * @param out          Where to write the visualization.
+	 * @param seatsOrVotes Either "seats" or "votes", the data to visualize.
+	 * @throws IOException If writing to out fails.
+	 */
+	public void writeTextVisualization(Appendable out, String seatsOrVotes) throws IOException {
+		int amountPerStar = this.getAmountPerStar(seatsOrVotes);
+		for (int i = 0; i < this.pollsInList; i++) {
+			if (polls[i] == null) {
+				Diagnostics.report(Diagnostics.Problem.EMPTY_POLL, i);
+			} else if (seatsOrVotes.equals("seats")) {
+				out.append(polls[i].textVisualizationBySeats(this.MAX_STARS_FOR_VISUALIZATION, amountPerStar));
+				out.append('\n');
+			} else {
+				out.append(polls[i].textVisualizationByVotes(this.MAX_STARS_FOR_VISUALIZATION, amountPerStar));
+				out.append('\n');
+			}
+		}
+	}
+
+	/**
+	 * Gets the visual representation of each poll, rendering it again only if a
+	 * poll or party has changed, or the number of stars or amount per star is
+	 * different, since it was last rendered.
+	 * 
+	 * @param seatsOrVotes Either "seats" or "votes", the data to visualize.
+	 * @return The visualization.
+	 */
+	private String cachedTextVisualization(String seatsOrVotes) {
+		long stamp = this.renderStamp();
+		int amountPerStar = this.getAmountPerStar(seatsOrVotes);
+		boolean bySeats = seatsOrVotes.equals("seats");
+		CachedRender cached = bySeats ? this.seatsRender : this.votesRender;
+		String rendered = cached == null ? null : cached.get(this.MAX_STARS_FOR_VISUALIZATION, amountPerStar, stamp);
+		if (rendered == null) {
+			rendered = this.renderTextVisualization(seatsOrVotes);
+			cached = new CachedRender(this.MAX_STARS_FOR_VISUALIZATION, amountPerStar, stamp, rendered);
+			if (bySeats)
+				this.seatsRender = cached;
+			else
+				this.votesRender = cached;
+		}
+		return rendered;
+	}
+
+	/**
+	 * Gets a stamp of the polls in the list and their data, which changes whenever
+	 * a poll is added, a party is added to or replaced in one of the polls, or one
+	 * of their parties is changed through its setters, and never goes back to an
+	 * earlier value.
+	 * 
+	 * @return The stamp.
+	 */
+	long renderStamp() {
+		return this.modCount;
+	}
+
+	/**
+	 * Renders a visual representation of each poll again, without looking at or
+	 * updating the cached rendering.
+	 * 
+	 * @param seatsOrVotes Either "seats" or "votes", the data to visualize.
+	 * @return The visualization.
+	 */
+	String renderTextVisualization(String seatsOrVotes) {
+		StringBuilder visualization = new StringBuilder();
+		try {
+			this.writeTextVisualization(visualization, seatsOrVotes);
+		} catch (IOException e) {
+			// Appending to a StringBuilder never throws an IOException.
+			throw new AssertionError(e);
+		}
+		return visualization.toString();
+	}
+
+	/**
+	 * See the overall performance of a party across all polls that the party is
+	 * included in.
+	 * 
+	 * @param partyName The name of the party to find average data for.
+	 * @return Party The average party data of the party.
+	 */
+	public Party getAveragePartyData(String partyName) {
+		return this.getAveragePartyData(partyName, null);
+	}
+
+	/**
+	 * See the overall performance of a party across all polls that the party is
+	 * included in, splitting the polls between the threads of a ForkJoinPool. The
+	 * result is identical to getAveragePartyData(partyName).
+	 * 
+	 * @param partyName The name of the party to find average data for.
+	 * @param pool      The pool to run in, or null to run in the calling thread.
+	 * @return Party The average party data of the party.
+	 */
+	public Party getAveragePartyData(String partyName, ForkJoinPool pool) {
+		String[] partyNames = { partyName };
+		return this.averagePartyData(partyNames, pool)[0];
+	}
+
+	/**
+	 * Counts the polls in the list that a party is in.
+	 * 
+	 * @param partyName The name of the party.
+	 * @return The number of polls the party is in.
+	 */
+	public int getNumOfPollsWithParty(String partyName) {
+		int count = this.membership.count(this.dictionary.findId(partyName));
+		for (int poll = this.unindexedPolls.nextSetBit(0); poll >= 0; poll = this.unindexedPolls.nextSetBit(poll + 1)) {
+			if (this.polls[poll].getParty(partyName) != null)
+				count++;
+		}
+		return count;
+	}
+
+	/**
+	 * See the overall performance of a party across all polls that the party is
+	 * included in, read from totals kept up to date as polls and parties are
+	 * added, replaced and changed through their setters, without going back over
+	 * the polls.
+	 * 
+	 * @param partyName The name of the party to find average data for.
+	 * @return Party The average party data of the party.
+	 */
+	public Party getRunningAveragePartyData(String partyName) {
+		return this.runningSums.average(partyName);
+	}
+
+	/**
+	 * Combine all the polls in the election into one using average data from each
+	 * party, read from totals kept up to date as polls and parties are added.
+	 * Reading it takes time in proportion to the number of parties, not polls.
+	 * 
+	 * @param partyNamesList The parties to retrieve data on.
+	 * @return A poll showing the average data of all the parties.
+	 */
+	public Poll getRunningAggregatePoll(String[] partyNamesList) {
+		Poll aggregate = new Poll("Aggregate", partyNamesList.length);
+		for (int partyName = 0; partyName < partyNamesList.length; partyName++) {
+			aggregate.addParty(this.getRunningAveragePartyData(partyNamesList[partyName]));
+		}
+		return aggregate;
+	}
+
+	/**
+	 * See the median performance of a party across all polls that the party is
+	 * included in, which unlike the average isn't pulled towards outlying polls.
+	 * It is estimated from sketches kept up to date as polls and parties are
+	 * added, so it takes the same time however many polls there are. After a
+	 * party in the list is replaced or changed through its setters, the sketches
+	 * are built again from the polls the next time they are read.
+	 * 
+	 * @param partyName The name of the party to find median data for.
+	 * @return Party The median party data of the party.
+	 */
+	public Party getMedianPartyData(String partyName) {
+		return this.getQuantilePartyData(partyName, 0.5);
+	}
+
+	/**
+	 * See a quantile of a party's performance across all polls that the party is
+	 * included in, such as 0.1 for a result that only a tenth of the polls are at
+	 * or below. Like the median it is estimated from sketches, and the estimate is
+	 * a value from a poll whose rank is within 2% of the number of polls of
+	 * the exact rank. A quantile outside 0 to 1 is an error, and the median is
+	 * given instead.
+	 * 
+	 * @param partyName The name of the party to find data for.
+	 * @param quantile  The fraction of the polls at or below the result, from 0
+	 *                  to 1.
+	 * @return Party The party data at the quantile.
+	 */
+	public Party getQuantilePartyData(String partyName, double quantile) {
+		if (!(quantile >= 0 && quantile <= 1)) {
+			Diagnostics.report(Diagnostics.Problem.INVALID_QUANTILE);
+			quantile = 0.5;
+		}
+		return this.quantiles().quantile(partyName, quantile);
+	}
+
+	/**
+	 * Combine all the polls in the election into one using median data from each
+	 * party.
+	 * 
+	 * @param partyNamesList The parties to retrieve data on.
+	 * @return A poll showing the median data of all the parties.
+	 */
+	public Poll getMedianAggregatePoll(String[] partyNamesList) {
+		PartyQuantiles partyQuantiles = this.quantiles();
+		Poll aggregate = new Poll("Aggregate", partyNamesList.length);
+		for (int partyName = 0; partyName < partyNamesList.length; partyName++) {
+			aggregate.addParty(partyQuantiles.quantile(partyNamesList[partyName], 0.5));
+		}
+		return aggregate;
+	}
+
+	/**
+	 * Gets the sketches of every party's projections, building them again from
+	 * the polls if a party has been replaced or changed since they were last
+	 * built.
+	 * 
+	 * @return The sketches.
+	 */
+	PartyQuantiles quantiles() {
+		if (this.quantilesStale) {
+			PartyQuantiles rebuilt = new PartyQuantiles(this.dictionary);
+			this.fillQuantiles(rebuilt);
+			this.quantiles = rebuilt;
+			this.quantilesStale = false;
+		}
+		return this.quantiles;
+	}
+
+	/**
+	 * Adds every party in every poll in the list to a set of sketches.
+	 * 
+	 * @param partyQuantiles The sketches to add to.
+	 */
+	void fillQuantiles(PartyQuantiles partyQuantiles) {
+		int numOfPolls = this.getNumOfPolls();
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			Poll aPoll = this.scanPoll(poll);
+			if (aPoll == null)
+				continue;
+			Party[] parties = aPoll.getParties();
+			for (int party = 0; party < aPoll.getNumberOfParties(); party++) {
+				partyQuantiles.add(parties[party].getName(), parties[party].getProjectedNumberOfSeats(),
+						parties[party].getProjectedPercentageOfVotes());
+			}
+		}
+	}
+
+	/**
+	 * See the performance of a party across the dated polls taken in the last few
+	 * days, counting back from the most recent dated poll. The first call for a
+	 * number of days goes over the polls once, and after that the average is kept
+	 * up to date as polls are added, dropping polls as they fall out of the
+	 * window. Polls without a date are left out.
+	 * 
+	 * @param partyName The name of the party to find average data for.
+	 * @param days      The number of days in the window, at least 1.
+	 * @return Party The average party data of the party.
+	 */
+	public Party getWindowedAveragePartyData(String partyName, int days) {
+		return this.windowSums(days).average(partyName);
+	}
+
+	/**
+	 * Combine the dated polls taken in the last few days into one using average
+	 * data from each party.
+	 * 
+	 * @param partyNamesList The parties to retrieve data on.
+	 * @param days           The number of days in the window, at least 1.
+	 * @return A poll showing the average data of all the parties.
+	 */
+	public Poll getWindowedAggregatePoll(String[] partyNamesList, int days) {
+		return this.aggregate(this.windowSums(days), partyNamesList);
+	}
+
+	/**
+	 * See the performance of a party across all dated polls, where a poll counts
+	 * half as much as one taken halfLifeDays later. The first call for a half-life
+	 * goes over the polls once, and after that the average is kept up to date as
+	 * polls are added. Polls without a date are left out.
+	 * 
+	 * @param partyName    The name of the party to find average data for.
+	 * @param halfLifeDays The number of days after which a poll counts half as
+	 *                     much, greater than zero.
+	 * @return Party The average party data of the party.
+	 */
+	public Party getDecayedAveragePartyData(String partyName, double halfLifeDays) {
+		return this.decayedSums(halfLifeDays).average(partyName);
+	}
+
+	/**
+	 * Combine all the dated polls into one using average data from each party,
+	 * where a poll counts half as much as one taken halfLifeDays later.
+	 * 
+	 * @param partyNamesList The parties to retrieve data on.
+	 * @param halfLifeDays   The number of days after which a poll counts half as
+	 *                       much, greater than zero.
+	 * @return A poll showing the average data of all the parties.
+	 */
+	public Poll getDecayedAggregatePoll(String[] partyNamesList, double halfLifeDays) {
+		return this.aggregate(this.decayedSums(halfLifeDays), partyNamesList);
+	}
+
+	/**
+	 * Estimate a party's share of the vote from all the polls with a sample size,
+	 * weighting each poll by its sample size, with a 95% confidence interval.
+	 * 
+	 * @param partyName The name of the party to estimate the share of the vote of.
+	 * @return The estimate for the party.
+	 */
+	public PartyEstimate getWeightedPartyEstimate(String partyName) {
+		String[] partyNames = { partyName };
+		return this.getWeightedPartyEstimates(partyNames)[0];
+	}
+
+	/**
+	 * Estimate the share of the vote of several parties in a single pass over the
+	 * polls, weighting each poll by its sample size. Polls without a sample size
+	 * are left out.
+	 * 
+	 * @param partyNamesList The parties to estimate the share of the vote of.
+	 * @return The estimates, in the same order as partyNamesList.
+	 */
+	public PartyEstimate[] getWeightedPartyEstimates(String[] partyNamesList) {
+		WeightedVoteStats stats = new WeightedVoteStats(partyNamesList.length);
+		this.addVoteStats(partyNamesList, stats);
+		PartyEstimate[] estimates = new PartyEstimate[partyNamesList.length];
+		for (int partyName = 0; partyName < partyNamesList.length; partyName++) {
+			estimates[partyName] = stats.estimate(partyNamesList[partyName], partyName);
+		}
+		return estimates;
+	}
+
+	/**
+	 * Estimate the share of the vote of several parties from every poll, with or
+	 * without a sample size, counting each poll the same. The standard error is
+	 * the spread between the polls divided by the number of polls, the same as
+	 * the weighted estimates when the polls disagree more than their sample
+	 * sizes explain.
+	 * 
+	 * @param partyNamesList The parties to estimate the share of the vote of.
+	 * @return The estimates, in the same order as partyNamesList.
+	 */
+	PartyEstimate[] spreadPartyEstimates(String[] partyNamesList) {
+		WeightedVoteStats stats = new WeightedVoteStats(partyNamesList.length);
+		int numOfPolls = this.getNumOfPolls();
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			Poll aPoll = this.scanPoll(poll);
+			if (aPoll == null)
+				continue;
+			for (int partyName = 0; partyName < partyNamesList.length; partyName++) {
+				Party party = aPoll.getParty(partyNamesList[partyName]);
+				if (party != null)
+					stats.add(partyName, party.getProjectedNumberOfSeats(), party.getProjectedPercentageOfVotes(), 1);
+			}
+		}
+		PartyEstimate[] estimates = new PartyEstimate[partyNamesList.length];
+		for (int partyName = 0; partyName < partyNamesList.length; partyName++) {
+			estimates[partyName] = stats.spreadEstimate(partyNamesList[partyName], partyName);
+		}
+		return estimates;
+	}
+
+	/**
+	 * Combine all the polls with a sample size into one using average data from
+	 * each party, weighting each poll by its sample size.
+	 * 
+	 * @param partyNamesList The parties to retrieve data on.
+	 * @return A poll showing the weighted average data of all the parties.
+	 */
+	public Poll getWeightedAggregatePoll(String[] partyNamesList) {
+		WeightedVoteStats stats = new WeightedVoteStats(partyNamesList.length);
+		this.addVoteStats(partyNamesList, stats);
+		Poll aggregate = new Poll("Aggregate", partyNamesList.length);
+		for (int partyName = 0; partyName < partyNamesList.length; partyName++) {
+			aggregate.addParty(stats.average(partyNamesList[partyName], partyName));
+		}
+		return aggregate;
+	}
+
+	/**
+	 * Adds the data of the parties in every poll with a sample size to a set of
+	 * statistics.
+	 * 
+	 * @param partyNames The names of the parties, in the order of their positions
+	 *                   in the statistics.
+	 * @param stats      The statistics to add to.
+	 */
+	void addVoteStats(String[] partyNames, WeightedVoteStats stats) {
+		int numOfPolls = this.getNumOfPolls();
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			Poll aPoll = this.scanPoll(poll);
+			if (aPoll == null || aPoll.getSampleSize() == 0)
+				continue;
+			for (int partyName = 0; partyName < partyNames.length; partyName++) {
+				Party party = aPoll.getParty(partyNames[partyName]);
+				if (party != null)
+					stats.add(partyName, party.getProjectedNumberOfSeats(), party.getProjectedPercentageOfVotes(),
+							aPoll.getSampleSize());
+			}
+		}
+	}
+
+	/**
+	 * Gets the totals for a window of days, creating them from the polls already
+	 * in the list the first time the window is asked for.
+	 * 
+	 * @param days The number of days in the window.
+	 * @return The totals for the window.
+	 */
+	DatedPartySums windowSums(int days) {
+		if (days < 1) {
+			Diagnostics.report(Diagnostics.Problem.INVALID_WINDOW);
+			return new WindowedPartySums(1, this.dictionary);
+		}
+		DatedPartySums sums = this.windows.get(days);
+		if (sums == null) {
+			sums = new WindowedPartySums(days, this.dictionary);
+			this.fillDatedSums(sums);
+			this.windows.put(days, sums);
+			this.datedSums.add(sums);
+		}
+		return sums;
+	}
+
+	/**
+	 * Gets the totals for a half-life, creating them from the polls already in the
+	 * list the first time the half-life is asked for.
+	 * 
+	 * @param halfLifeDays The number of days after which a poll counts half as
+	 *                     much.
+	 * @return The totals for the half-life.
+	 */
+	DatedPartySums decayedSums(double halfLifeDays) {
+		if (!(halfLifeDays > 0)) {
+			Diagnostics.report(Diagnostics.Problem.INVALID_HALF_LIFE);
+			return new DecayedPartySums(1, this.dictionary);
+		}
+		DatedPartySums sums = this.decays.get(halfLifeDays);
+		if (sums == null) {
+			sums = new DecayedPartySums(halfLifeDays, this.dictionary);
+			this.fillDatedSums(sums);
+			this.decays.put(halfLifeDays, sums);
+			this.datedSums.add(sums);
+		}
+		return sums;
+	}
+
+	/**
+	 * Adds every party in every dated poll in the list to a set of totals.
+	 * 
+	 * @param sums The totals to add to.
+	 */
+	void fillDatedSums(DatedPartySums sums) {
+		int numOfPolls = this.getNumOfPolls();
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			Poll aPoll = this.scanPoll(poll);
+			if (aPoll == null || aPoll.getDate() == null)
+				continue;
+			int day = (int) aPoll.getDate().toEpochDay();
+			Party[] parties = aPoll.getParties();
+			for (int party = 0; party < aPoll.getNumberOfParties(); party++) {
+				sums.add(day, DatedPartySums.entry(poll, party), parties[party].getName(),
+						parties[party].getProjectedNumberOfSeats(), parties[party].getProjectedPercentageOfVotes());
+			}
+		}
+	}
+
+	/**
+	 * Adds a party in a dated poll to every set of dated totals that has been
+	 * asked for.
+	 * 
+	 * @param day        The day the poll was taken, as in LocalDate.toEpochDay.
+	 * @param entry      The entry of the party in the poll, from
+	 *                   DatedPartySums.entry.
+	 * @param partyName  The name of the party.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 */
+	void addToDatedSums(int day, long entry, String partyName, float partySeats, float partyVotes) {
+		for (int sums = 0; sums < this.datedSums.size(); sums++) {
+			this.datedSums.get(sums).add(day, entry, partyName, partySeats, partyVotes);
+		}
+	}
+
+	/**
+	 * Takes a party in a dated poll back out of every set of dated totals.
+	 * 
+	 * @param aPoll    The poll the party is in.
+	 * @param position The position of the poll in the list.
+	 * @param slot     The slot of the party in the poll.
+	 */
+	private void removeFromDatedSums(Poll aPoll, int position, int slot) {
+		if (aPoll.getDate() == null)
+			return;
+		int day = (int) aPoll.getDate().toEpochDay();
+		long entry = DatedPartySums.entry(position, slot);
+		for (int sums = 0; sums < this.datedSums.size(); sums++) {
+			this.datedSums.get(sums).remove(day, entry);
+		}
+	}
+
+	/**
+	 * Creates a poll with the average data of each party from a set of dated
+	 * totals.
+	 */
+	private Poll aggregate(DatedPartySums sums, String[] partyNamesList) {
+		Poll aggregate = new Poll("Aggregate", partyNamesList.length);
+		for (int partyName = 0; partyName < partyNamesList.length; partyName++) {
+			aggregate.addParty(sums.average(partyNamesList[partyName]));
+		}
+		return aggregate;
+	}
+
+	/**
+	 * Combine all the polls in the election into one using average data from each
+	 * party to see overall outcomes of the election.
+	 * 
+	 * @param partyNamesList The parties to retrieve data on.
+	 * @return A poll showing the average data of all the parties.
+	 */
+	public Poll getAggregatePoll(String[] partyNamesList) {
+		return this.getAggregatePoll(partyNamesList, null);
+	}
+
+	/**
+	 * Combine all the polls in the election into one using average data from each
+	 * party, splitting the polls between the threads of a ForkJoinPool. The result
+	 * is identical to getAggregatePoll(partyNamesList).
+	 * 
+	 * @param partyNamesList The parties to retrieve data on.
+	 * @param pool           The pool to run in, or null to run in the calling
+	 *                       thread.
+	 * @return A poll showing the average data of all the parties.
+	 */
+	public Poll getAggregatePoll(String[] partyNamesList, ForkJoinPool pool) {
+		// The averages are reused while the list is unchanged, but each caller gets
+		// its own copy of them so changing the aggregate doesn't change the cache
+		long stamp = this.renderStamp();
+		CachedAggregate cached = this.lastAggregate;
+		if (cached == null || cached.stamp != stamp || !Arrays.equals(cached.partyNames, partyNamesList)) {
+			cached = new CachedAggregate(partyNamesList.clone(), stamp,
+					this.averagePartyData(partyNamesList, pool));
+			this.lastAggregate = cached;
+		}
+
+		Poll aggregate = new Poll("Aggregate", partyNamesList.length);
+		for (int partyName = 0; partyName < cached.avgParties.length; partyName++) {
+			Party avgParty = cached.avgParties[partyName];
+			aggregate.addParty(new Party(avgParty.getName(), avgParty.getProjectedNumberOfSeats(),
+					avgParty.getProjectedPercentageOfVotes()));
+		}
+
+		return aggregate;
+	}
+
+	/**
+	 * Combine all the polls in the election into one using average data from each
+	 * party, and then replace each party's average projected seats with seats
+	 * allocated from its average share of the vote, out of the number of seats in
+	 * the election.
+	 * 
+	 * @param partyNamesList The parties to retrieve data on.
+	 * @param allocator      The method of allocating seats.
+	 * @return A poll showing the average data of all the parties, with allocated
+	 *         seats.
+	 */
+	public Poll getAllocatedAggregatePoll(String[] partyNamesList, SeatAllocator allocator) {
+		Poll aggregate = this.getAggregatePoll(partyNamesList);
+		allocator.setProjectedSeats(aggregate, this.numOfSeats);
+		return aggregate;
+	}
+
+	/**
+	 * Finds the average data of several parties in a single pass over the polls.
+	 * The polls are summed in chunks, either one chunk after another or in
+	 * parallel in a ForkJoinPool, and the chunk totals are then added together in
+	 * order so the result doesn't depend on how many threads were used. Nothing
+	 * is cached, so every call goes over the polls again.
+	 * 
+	 * @param partyNames The names of the parties to find average data for.
+	 * @param pool       The pool to run in, or null to run in the calling thread.
+	 * @return The average party data, in the same order as partyNames.
+	 */
+	Party[] averagePartyData(String[] partyNames, ForkJoinPool pool) {
+		int numOfPolls = this.getNumOfPolls();
+		int numOfChunks = (numOfPolls + POLLS_PER_CHUNK - 1) / POLLS_PER_CHUNK;
+		PartySums sums = this.newSums(partyNames);
+		if (pool == null || numOfChunks < 2) {
+			PartySums chunkSums = this.newSums(partyNames);
+			for (int chunk = 0; chunk < numOfChunks; chunk++) {
+				chunkSums.clear();
+				this.sumChunk(partyNames, chunk, numOfPolls, chunkSums);
+				sums.merge(chunkSums);
+			}
+		} else {
+			PartySums[] chunkSums = new PartySums[numOfChunks];
+			pool.invoke(new SumChunksAction(partyNames, numOfPolls, chunkSums, 0, numOfChunks));
+			for (int chunk = 0; chunk < numOfChunks; chunk++) {
+				sums.merge(chunkSums[chunk]);
+			}
+		}
+		return this.averageParties(partyNames, sums);
+	}
+
+	/**
+	 * Creates empty totals for the parties being averaged.
+	 * 
+	 * @param partyNames The names of the parties being averaged.
+	 * @return Totals with one position for each party name.
+	 */
+	PartySums newSums(String[] partyNames) {
+		return new PartySums(partyNames.length);
+	}
+
+	/**
+	 * Adds the data of the parties in one chunk of polls to a set of totals, but
+	 * only for polls the party is in. Each party's recorded polls are visited in
+	 * order, skipping the polls it isn't in, and then any polls that aren't
+	 * recorded are asked for every party.
+	 * 
+	 * @param partyNames The names of the parties being averaged.
+	 * @param chunk      The chunk of polls to add.
+	 * @param numOfPolls The number of polls being averaged, so polls added while
+	 *                   averaging are left out.
+	 * @param sums       The totals to add to, from newSums.
+	 */
+	void sumChunk(String[] partyNames, int chunk, int numOfPolls, PartySums sums) {
+		int start = chunk * POLLS_PER_CHUNK;
+		int end = Math.min(numOfPolls, start + POLLS_PER_CHUNK);
+		for (int partyName = 0; partyName < partyNames.length; partyName++) {
+			int partyId = this.dictionary.findId(partyNames[partyName]);
+			BitSet members = this.membership.polls(partyId);
+			for (int poll = members.nextSetBit(start); poll >= 0 && poll < end; poll = members.nextSetBit(poll + 1)) {
+				Party party = this.polls[poll].getParty(partyId);
+				sums.add(partyName, party.getProjectedNumberOfSeats(), party.getProjectedPercentageOfVotes());
+			}
+		}
+
+		for (int poll = this.unindexedPolls.nextSetBit(start); poll >= 0
+				&& poll < end; poll = this.unindexedPolls.nextSetBit(poll + 1)) {
+			Poll aPoll = this.polls[poll];
+			for (int partyName = 0; partyName < partyNames.length; partyName++) {
+				Party party = aPoll.getParty(partyNames[partyName]);
+				if (party == null) {
+					Diagnostics.report(Diagnostics.Problem.PARTY_NOT_IN_POLL, aPoll.getPollName());
+					continue;
+				}
+				sums.add(partyName, party.getProjectedNumberOfSeats(), party.getProjectedPercentageOfVotes());
+			}
+		}
+	}
+
+	/**
+	 * Creates the average party data of each party from the totals.
+	 * 
+	 * @param partyNames The names of the parties being averaged.
+	 * @param sums       The totals over all the polls, from newSums.
+	 * @return The average party data, in the same order as partyNames.
+	 */
+	Party[] averageParties(String[] partyNames, PartySums sums) {
+		Party[] avgParties = new Party[partyNames.length];
+		for (int partyName = 0; partyName < partyNames.length; partyName++) {
+			avgParties[partyName] = sums.average(partyNames[partyName], partyName);
+		}
+		return avgParties;
+	}
+
+	/**
+	 * The average party data of the last aggregate poll, with the party names and
+	 * the stamp of the list it was averaged from.
+	 */
+	private static final class CachedAggregate {
+		final String[] partyNames;
+		final long stamp;
+		final Party[] avgParties;
+
+		CachedAggregate(String[] partyNames, long stamp, Party[] avgParties) {
+			this.partyNames = partyNames;
+			this.stamp = stamp;
+			this.avgParties = avgParties;
+		}
+	}
+
+	/**
+	 * Sums a range of chunks of polls in a ForkJoinPool, splitting the range in
+	 * half until each task has one chunk. Each chunk is summed into its own
+	 * totals.
+	 */
+	private class SumChunksAction extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private String[] partyNames;
+		private int numOfPolls;
+		private PartySums[] chunkSums;
+		private int fromChunk;
+		private int toChunk;
+
+		SumChunksAction(String[] partyNames, int numOfPolls, PartySums[] chunkSums, int fromChunk, int toChunk) {
+			this.partyNames = partyNames;
+			this.numOfPolls = numOfPolls;
+			this.chunkSums = chunkSums;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+		}
+
+		protected void compute() {
+			if (this.toChunk - this.fromChunk == 1) {
+				PartySums sums = newSums(this.partyNames);
+				sumChunk(this.partyNames, this.fromChunk, this.numOfPolls, sums);
+				this.chunkSums[this.fromChunk] = sums;
+			} else {
+				int middle = (this.fromChunk + this.toChunk) >>> 1;
+				invokeAll(new SumChunksAction(this.partyNames, this.numOfPolls, this.chunkSums, this.fromChunk, middle),
+						new SumChunksAction(this.partyNames, this.numOfPolls, this.chunkSums, middle, this.toChunk));
+			}
+		}
+	}
+
+	/**
+	 * Adds a specified poll to the end of the list, doubling the size of the list
+	 * first if it is full.
+	 * 
+	 * @param aPoll The poll to add.
+	 */
+	public void addPoll(Poll aPoll) {
+		if (aPoll == null) {
+			Diagnostics.report(Diagnostics.Problem.NULL_POLL);
+			return;
+		}
+		if (this.pollsInList == this.polls.length)
+			this.polls = Arrays.copyOf(this.polls, this.polls.length * 2);
+		int index = this.pollsInList;
+		this.polls[index] = aPoll;
+		this.pollsInList++;
+		this.modCount++;
+
+		// The poll takes on the list's dictionary first if it isn't in another list
+		aPoll.addList(this, index);
+		boolean indexed = this.isIndexed(aPoll);
+		if (!indexed)
+			this.unindexedPolls.set(index);
+		Party[] parties = aPoll.getParties();
+		for (int party = 0; party < aPoll.getNumberOfParties(); party++) {
+			this.addToSums(aPoll, index, party, parties[party]);
+			if (indexed)
+				this.membership.add(aPoll.getPartyId(party), index);
+		}
+	}
+
+	/**
+	 * Checks if the parties of a poll can be recorded in the membership bitsets,
+	 * which is only true of Poll itself and not of subclasses, and only if the
+	 * poll's party ids come from the list's dictionary.
+	 * 
+	 * @param aPoll The poll to check.
+	 * @return True if the poll's parties are recorded.
+	 */
+	private boolean isIndexed(Poll aPoll) {
+		return aPoll.getClass() == Poll.class && aPoll.getDictionary() == this.dictionary;
+	}
+
+	/**
+	 * Adds a party's projections to the running totals, and records that the
+	 * party is in the poll. Called by a poll in the list when a party is added to
+	 * it.
+	 * 
+	 * @param aPoll    The poll the party was added to.
+	 * @param position The position of the poll in the list.
+	 * @param slot     The slot of the party in the poll.
+	 * @param aParty   The party that was added.
+	 */
+	void partyAdded(Poll aPoll, int position, int slot, Party aParty) {
+		this.modCount++;
+		this.addToSums(aPoll, position, slot, aParty);
+		if (this.isIndexed(aPoll))
+			this.membership.add(aPoll.getPartyId(slot), position);
+	}
+
+	/**
+	 * Adds a party's projections to the running totals and the dated totals.
+	 * 
+	 * @param aPoll    The poll the party is in.
+	 * @param position The position of the poll in the list.
+	 * @param slot     The slot of the party in the poll.
+	 * @param aParty   The party.
+	 */
+	private void addToSums(Poll aPoll, int position, int slot, Party aParty) {
+		this.runningSums.add(aParty.getName(), aParty.getProjectedNumberOfSeats(),
+				aParty.getProjectedPercentageOfVotes());
+		this.quantiles.add(aParty.getName(), aParty.getProjectedNumberOfSeats(),
+				aParty.getProjectedPercentageOfVotes());
+		if (aPoll.getDate() != null)
+			this.addToDatedSums((int) aPoll.getDate().toEpochDay(), DatedPartySums.entry(position, slot),
+					aParty.getName(), aParty.getProjectedNumberOfSeats(), aParty.getProjectedPercentageOfVotes());
+	}
+
+	/**
+	 * Swaps a party's projections in the running totals for those of the party
+	 * replacing it. Called by a poll in the list when a party is replaced.
+	 * 
+	 * @param aPoll    The poll the party was replaced in.
+	 * @param position The position of the poll in the list.
+	 * @param slot     The slot of the party in the poll.
+	 * @param replaced The party that was replaced.
+	 * @param aParty   The party that replaced it.
+	 */
+	void partyReplaced(Poll aPoll, int position, int slot, Party replaced, Party aParty) {
+		this.modCount++;
+		this.runningSums.remove(replaced.getName(), replaced.getProjectedNumberOfSeats(),
+				replaced.getProjectedPercentageOfVotes());
+		this.quantilesStale = true;
+		this.removeFromDatedSums(aPoll, position, slot);
+		this.addToSums(aPoll, position, slot, aParty);
+	}
+
+	/**
+	 * Swaps the projections a party had before it was changed through its setters
+	 * for the ones it has now, and if it was renamed records it under its new
+	 * name. Called by a poll in the list when one of its parties is changed,
+	 * which also changes the stamp of the list.
+	 * 
+	 * @param aPoll    The poll the party is in.
+	 * @param position The position of the poll in the list.
+	 * @param slot     The slot of the party in the poll.
+	 * @param aParty   The party that was changed.
+	 * @param oldName  The name of the party before the change.
+	 * @param oldSeats The projected number of seats before the change.
+	 * @param oldVotes The projected percentage of votes before the change.
+	 */
+	void partyChanged(Poll aPoll, int position, int slot, Party aParty, String oldName, float oldSeats,
+			float oldVotes) {
+		this.modCount++;
+		// A change of colour only needs the visualizations drawn again
+		if (Objects.equals(oldName, aParty.getName()) && oldSeats == aParty.getProjectedNumberOfSeats()
+				&& oldVotes == aParty.getProjectedPercentageOfVotes())
+			return;
+		this.runningSums.remove(oldName, oldSeats, oldVotes);
+		this.quantilesStale = true;
+		this.removeFromDatedSums(aPoll, position, slot);
+		this.addToSums(aPoll, position, slot, aParty);
+
+		if (this.isIndexed(aPoll)) {
+			int oldId = this.dictionary.findId(oldName);
+			int partyId = aPoll.getPartyId(slot);
+			if (oldId != partyId) {
+				// Another party in the poll can have the old name too
+				if (aPoll.getParty(oldId) == null)
+					this.membership.remove(oldId, position);
+				this.membership.add(partyId, position);
+			}
+		}
+	}
+}
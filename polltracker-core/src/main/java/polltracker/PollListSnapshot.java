@@ -0,0 +1,234 @@
+package polltracker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+
+/**
+ * Saves a PollList to a compact binary snapshot file and loads it back, so a
+ * large list doesn't need to be parsed from text every time the application
+ * starts. Snapshots are loaded through a memory-mapped FileChannel.
+ *
+ * A snapshot starts with a header (a magic number, the format version, the
+ * number of seats and the number of polls), followed by a dictionary of every
+ * distinct party name, so each name is stored once however many polls it is in.
+ * Each poll is then stored as its name, the day it was taken (as in
+ * LocalDate.toEpochDay, or Integer.MIN_VALUE if it has no date), its sample
+ * size and its number of parties, followed by three
+ * columns: the dictionary ids of its parties, their projected seats as floats,
+ * and their projected shares of the vote as floats. Party colours are not
+ * stored. Only snapshots of the current version can be loaded, and every count
+ * is checked against the bytes left in the file before anything is allocated
+ * for it, so a corrupt file can't make the reader run out of memory.
+ *
+ * Snapshots are loaded into a ColumnarPollList, so loading copies the columns
+ * straight into primitive arrays without creating Poll or Party objects.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PollListSnapshot {
+	// "PLSN" in ASCII, used to recognize snapshot files.
+	private static final int MAGIC = 0x504C534E;
+	private static final int VERSION = 3;
+	private static final int BUFFER_SIZE = 1 << 16;
+	// The fewest bytes a poll, a name and a party in a poll take up in a snapshot.
+	private static final int MIN_POLL_BYTES = 16;
+	private static final int MIN_NAME_BYTES = 4;
+	private static final int PARTY_BYTES = 12;
+
+	/**
+	 * Writes the polls in a PollList to a snapshot file, replacing the file if it
+	 * exists.
+	 *
+	 * @param pollList The list to save.
+	 * @param file     The file to write.
+	 * @throws IOException If the file can't be written.
+	 */
+	public static void write(PollList pollList, Path file) throws IOException {
+		Poll[] polls = pollList.toArray();
+		int numOfPolls = pollList.getNumOfPolls();
+
+		// Give each distinct party name an id in the order the names are first seen
+		HashMap<String, Integer> nameIds = new HashMap<String, Integer>();
+		int numOfNames = 0;
+		for (int poll = 0; poll < numOfPolls; poll++) {
+			Party[] parties = polls[poll].getParties();
+			for (int party = 0; party < polls[poll].getNumberOfParties(); party++) {
+				if (!nameIds.containsKey(parties[party].getName()))
+					nameIds.put(parties[party].getName(), numOfNames++);
+			}
+		}
+		String[] names = new String[numOfNames];
+		for (String name : nameIds.keySet()) {
+			names[nameIds.get(name)] = name;
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(pollList.getNumOfSeats()).putInt(numOfPolls);
+
+			buffer.putInt(numOfNames);
+			for (String name : names) {
+				buffer = putString(channel, buffer, name);
+			}
+
+			for (int poll = 0; poll < numOfPolls; poll++) {
+				Party[] parties = polls[poll].getParties();
+				int numOfParties = polls[poll].getNumberOfParties();
+				LocalDate date = polls[poll].getDate();
+				buffer = putString(channel, buffer, polls[poll].getPollName());
+				buffer = ensureRoom(channel, buffer, 12);
+				buffer.putInt(date == null ? ColumnarPollList.NO_DATE : (int) date.toEpochDay());
+				buffer.putInt(polls[poll].getSampleSize());
+				buffer.putInt(numOfParties);
+				for (int party = 0; party < numOfParties; party++) {
+					buffer = ensureRoom(channel, buffer, 4);
+					buffer.putInt(nameIds.get(parties[party].getName()));
+				}
+				for (int party = 0; party < numOfParties; party++) {
+					buffer = ensureRoom(channel, buffer, 4);
+					buffer.putFloat(parties[party].getProjectedNumberOfSeats());
+				}
+				for (int party = 0; party < numOfParties; party++) {
+					buffer = ensureRoom(channel, buffer, 4);
+					buffer.putFloat(parties[party].getProjectedPercentageOfVotes());
+				}
+			}
+			flush(channel, buffer);
+		}
+	}
+
+	/**
+	 * Loads a PollList from a snapshot file into a ColumnarPollList.
+	 *
+	 * @param file The file to load.
+	 * @return The list saved in the snapshot.
+	 * @throws IOException If the file can't be read or isn't a snapshot.
+	 */
+	public static PollList read(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE)
+				throw new IOException("Snapshot is too large to map: " + file);
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < 20 || buffer.getInt() != MAGIC)
+				throw new IOException("Not a poll list snapshot: " + file);
+			int version = buffer.getInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported snapshot version " + version + ": " + file);
+			int numOfSeats = buffer.getInt();
+			int numOfPolls = readCount(buffer, MIN_POLL_BYTES, file);
+
+			// The ids in the snapshot are changed to the ids in the list's dictionary
+			int[] listIds = new int[readCount(buffer, MIN_NAME_BYTES, file)];
+			ColumnarPollList pollList = new ColumnarPollList(numOfPolls, numOfSeats);
+			for (int name = 0; name < listIds.length; name++) {
+				listIds[name] = pollList.partyId(getString(buffer, file));
+			}
+
+			int[] ids = new int[16];
+			float[] seats = new float[16];
+			float[] votes = new float[16];
+			for (int poll = 0; poll < numOfPolls; poll++) {
+				String pollName = getString(buffer, file);
+				int day = buffer.getInt();
+				int sampleSize = buffer.getInt();
+				if (sampleSize < 0)
+					throw new IOException("Corrupt poll list snapshot: " + file);
+				int numOfParties = readCount(buffer, PARTY_BYTES, file);
+				if (numOfParties > ids.length) {
+					ids = new int[numOfParties];
+					seats = new float[numOfParties];
+					votes = new float[numOfParties];
+				}
+				for (int party = 0; party < numOfParties; party++) {
+					ids[party] = listIds[buffer.getInt()];
+				}
+				for (int party = 0; party < numOfParties; party++) {
+					seats[party] = buffer.getFloat();
+				}
+				for (int party = 0; party < numOfParties; party++) {
+					votes[party] = buffer.getFloat();
+				}
+				pollList.addPoll(pollName, day, sampleSize, numOfParties, ids, seats, votes);
+			}
+			return pollList;
+		} catch (RuntimeException e) {
+			// Reading past the end of the buffer or a bad name id means the file is
+			// truncated or corrupt
+			throw new IOException("Corrupt poll list snapshot: " + file, e);
+		}
+	}
+
+	/**
+	 * Writes a string as its length in bytes followed by its UTF-8 bytes.
+	 *
+	 * @return The buffer to keep writing to.
+	 */
+	private static ByteBuffer putString(FileChannel channel, ByteBuffer buffer, String text) throws IOException {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		buffer = ensureRoom(channel, buffer, 4 + bytes.length);
+		buffer.putInt(bytes.length);
+		buffer.put(bytes);
+		return buffer;
+	}
+
+	/**
+	 * Reads a string written by putString.
+	 *
+	 * @throws IOException If the length of the string is negative or longer than
+	 *                     the rest of the file.
+	 */
+	private static String getString(ByteBuffer buffer, Path file) throws IOException {
+		byte[] bytes = new byte[readCount(buffer, 1, file)];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads a count of things that each take up at least a number of bytes,
+	 * checking there are enough bytes left in the file for them.
+	 *
+	 * @throws IOException If the count is negative or the things can't fit in the
+	 *                     rest of the file.
+	 */
+	private static int readCount(ByteBuffer buffer, int minBytesEach, Path file) throws IOException {
+		int count = buffer.getInt();
+		if (count < 0 || (long) count * minBytesEach > buffer.remaining())
+			throw new IOException("Corrupt poll list snapshot: " + file);
+		return count;
+	}
+
+	/**
+	 * Makes sure the buffer has room for a number of bytes, writing it to the
+	 * channel if it doesn't. Values larger than the buffer get a larger buffer.
+	 *
+	 * @return The buffer to keep writing to.
+	 */
+	private static ByteBuffer ensureRoom(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+		if (buffer.remaining() >= bytes)
+			return buffer;
+		flush(channel, buffer);
+		if (buffer.capacity() < bytes)
+			return ByteBuffer.allocate(bytes);
+		return buffer;
+	}
+
+	/**
+	 * Writes everything in the buffer to the channel and empties the buffer.
+	 */
+	private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+}
@@ -0,0 +1,214 @@
+package polltracker;
+
+import java.util.Arrays;
+
+/**
+ * A KLL sketch of a stream of values, which estimates any quantile of the
+ * values, such as the median, in a fixed amount of memory however many values
+ * are added.
+ *
+ * Values are kept in levels. A value on level h stands for 2^h of the values
+ * added. New values go on level 0, and when the sketch is full the lowest level
+ * that is over its capacity is sorted and every other value moved up a level,
+ * starting from the first or the second value at random. Higher levels have
+ * more room than lower ones, so the sketch holds about 3k values, and with the
+ * default k of 200 the rank of an estimated quantile is within RANK_ERROR (2%)
+ * of the number of values of the exact rank. The coin is seeded, so the same
+ * values added in the same order always give the same estimates. Two sketches
+ * can be merged into one that estimates the quantiles of both streams. Adding
+ * values isn't safe while other threads read the sketch, but any number of
+ * threads can estimate quantiles at once.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class QuantileSketch {
+	static final int DEFAULT_K = 200;
+	// The most the rank of an estimate is off by with DEFAULT_K, as a fraction of
+	// the number of values
+	static final double RANK_ERROR = 0.02;
+	// Each level has this much less room than the level above it
+	private static final double CAPACITY_RATIO = 2.0 / 3.0;
+	// The fewest values a level holds before it is compacted
+	private static final int MIN_CAPACITY = 8;
+
+	private final int k;
+	private float[][] levels = new float[1][];
+	private int[] levelSizes = new int[1];
+	private int numOfLevels = 1;
+	// The total size and capacity of all levels, updated when levels change
+	private int size = 0;
+	private int capacity;
+	private long count = 0;
+	private long coin = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * Creates an empty sketch with the default accuracy.
+	 */
+	QuantileSketch() {
+		this(DEFAULT_K);
+	}
+
+	/**
+	 * Creates an empty sketch.
+	 *
+	 * @param k The capacity of the top level. Larger values give more accurate
+	 *          estimates but use more memory.
+	 */
+	QuantileSketch(int k) {
+		this.k = Math.max(k, MIN_CAPACITY);
+		this.levels[0] = new float[this.k];
+		this.capacity = this.levelCapacity(0);
+	}
+
+	/**
+	 * Adds a value to the sketch.
+	 *
+	 * @param value The value to add.
+	 */
+	void add(float value) {
+		this.append(0, value);
+		this.count++;
+		this.compress();
+	}
+
+	/**
+	 * Adds all the values of another sketch to this one. The other sketch is left
+	 * unchanged.
+	 *
+	 * @param other The sketch to merge in.
+	 */
+	void merge(QuantileSketch other) {
+		for (int level = 0; level < other.numOfLevels; level++) {
+			while (level >= this.numOfLevels)
+				this.addLevel();
+			for (int item = 0; item < other.levelSizes[level]; item++) {
+				this.append(level, other.levels[level][item]);
+			}
+		}
+		this.count += other.count;
+		this.compress();
+	}
+
+	/**
+	 * Gets the number of values added to the sketch, including merged ones.
+	 *
+	 * @return The number of values.
+	 */
+	long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Estimates a quantile of the values added, the value with a fraction of the
+	 * values at or below it. A quantile of 0.5 is the median.
+	 *
+	 * @param quantile The fraction, from 0 to 1.
+	 * @return The estimated value, or NaN if the sketch is empty.
+	 */
+	float quantile(double quantile) {
+		if (this.count == 0)
+			return Float.NaN;
+		long target = Math.max(1, (long) Math.ceil(quantile * this.count));
+
+		// Sort a copy of each level, so threads reading the sketch at the same time
+		// don't sort the same arrays under each other
+		float[][] sorted = new float[this.numOfLevels][];
+		for (int level = 0; level < this.numOfLevels; level++) {
+			sorted[level] = Arrays.copyOf(this.levels[level], this.levelSizes[level]);
+			Arrays.sort(sorted[level]);
+		}
+
+		// Walk the values of all levels in order, merging the sorted levels, until
+		// the weight passed reaches the target rank
+		int[] next = new int[this.numOfLevels];
+		long weight = 0;
+		float value = Float.NaN;
+		while (weight < target) {
+			int lowest = -1;
+			for (int level = 0; level < this.numOfLevels; level++) {
+				if (next[level] < sorted[level].length
+						&& (lowest < 0 || sorted[level][next[level]] < sorted[lowest][next[lowest]]))
+					lowest = level;
+			}
+			if (lowest < 0)
+				break;
+			value = sorted[lowest][next[lowest]++];
+			weight += 1L << lowest;
+		}
+		return value;
+	}
+
+	/**
+	 * Gets the number of values a level holds before it is compacted, which
+	 * shrinks by CAPACITY_RATIO for each level below the top.
+	 */
+	private int levelCapacity(int level) {
+		int depth = this.numOfLevels - 1 - level;
+		return Math.max(MIN_CAPACITY, (int) Math.ceil(this.k * Math.pow(CAPACITY_RATIO, depth)));
+	}
+
+	/**
+	 * Adds a value to the end of a level, growing the level if it is full.
+	 */
+	private void append(int level, float value) {
+		if (this.levelSizes[level] == this.levels[level].length)
+			this.levels[level] = Arrays.copyOf(this.levels[level], this.levels[level].length * 2);
+		this.levels[level][this.levelSizes[level]++] = value;
+		this.size++;
+	}
+
+	/**
+	 * Compacts levels until the sketch holds no more than its capacity.
+	 */
+	private void compress() {
+		while (this.size >= this.capacity) {
+			int level = 0;
+			while (this.levelSizes[level] < this.levelCapacity(level))
+				level++;
+			this.compact(level);
+		}
+	}
+
+	/**
+	 * Sorts a level and moves every other value up to the next level, leaving one
+	 * value behind if the level holds an odd number of values.
+	 */
+	private void compact(int level) {
+		if (level + 1 == this.numOfLevels)
+			this.addLevel();
+		float[] items = this.levels[level];
+		int levelSize = this.levelSizes[level];
+		Arrays.sort(items, 0, levelSize);
+		int leftOver = levelSize % 2;
+		for (int item = leftOver + this.flipCoin(); item < levelSize; item += 2) {
+			this.append(level + 1, items[item]);
+		}
+		this.size -= levelSize - leftOver;
+		this.levelSizes[level] = leftOver;
+	}
+
+	/**
+	 * Adds an empty level at the top, which gives every level more room.
+	 */
+	private void addLevel() {
+		this.levels = Arrays.copyOf(this.levels, this.numOfLevels + 1);
+		this.levelSizes = Arrays.copyOf(this.levelSizes, this.numOfLevels + 1);
+		this.levels[this.numOfLevels] = new float[this.k];
+		this.numOfLevels++;
+		this.capacity = 0;
+		for (int level = 0; level < this.numOfLevels; level++) {
+			this.capacity += this.levelCapacity(level);
+		}
+	}
+
+	/**
+	 * Gets 0 or 1 from a xorshift generator.
+	 */
+	private int flipCoin() {
+		this.coin ^= this.coin << 13;
+		this.coin ^= this.coin >>> 7;
+		this.coin ^= this.coin << 17;
+		return (int) (this.coin >>> 63);
+	}
+}
@@ -0,0 +1,109 @@
+package polltracker;
+
+/**
+ * A binary max-heap of parties ordered by a number for each party, such as the
+ * votes of the party divided by a divisor. Ties go to the party that comes
+ * first. The arrays are kept between uses and only grow when there are more
+ * parties than before, so the heap can be used over and over without creating
+ * objects.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class QuotientHeap {
+	private int[] parties = new int[16];
+	private double[] keys;
+	private int size = 0;
+
+	/**
+	 * Fills the heap with parties 0 to numOfParties - 1 in linear time.
+	 *
+	 * @param keys         The number for each party. The array is used by the
+	 *                     heap, and a key should only be changed with
+	 *                     replaceTop.
+	 * @param numOfParties The number of parties.
+	 */
+	void build(double[] keys, int numOfParties) {
+		if (this.parties.length < numOfParties)
+			this.parties = new int[numOfParties];
+		this.keys = keys;
+		for (int party = 0; party < numOfParties; party++) {
+			this.parties[party] = party;
+		}
+		this.size = numOfParties;
+		for (int position = numOfParties / 2 - 1; position >= 0; position--) {
+			this.siftDown(position);
+		}
+	}
+
+	boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Gets the party with the largest number.
+	 *
+	 * @return The position of the party.
+	 */
+	int top() {
+		return this.parties[0];
+	}
+
+	/**
+	 * Gets the largest number.
+	 *
+	 * @return The number of the party at the top.
+	 */
+	double topKey() {
+		return this.keys[this.parties[0]];
+	}
+
+	/**
+	 * Changes the number of the party at the top and moves it down to its place.
+	 *
+	 * @param key The new number of the party.
+	 */
+	void replaceTop(double key) {
+		this.keys[this.parties[0]] = key;
+		this.siftDown(0);
+	}
+
+	/**
+	 * Takes the party at the top out of the heap.
+	 */
+	void removeTop() {
+		this.size--;
+		this.parties[0] = this.parties[this.size];
+		this.siftDown(0);
+	}
+
+	/**
+	 * Checks if the party at position a belongs above the party at position b.
+	 */
+	private boolean above(int a, int b) {
+		double keyA = this.keys[this.parties[a]];
+		double keyB = this.keys[this.parties[b]];
+		return keyA > keyB || (keyA == keyB && this.parties[a] < this.parties[b]);
+	}
+
+	/**
+	 * Moves the party at a position down until both its children are below it.
+	 */
+	private void siftDown(int position) {
+		while (true) {
+			int largest = position;
+			int left = 2 * position + 1;
+			int right = left + 1;
+			if (left < this.size && this.above(left, largest))
+				largest = left;
+			if (right < this.size && this.above(right, largest))
+				largest = right;
+			if (largest == position)
+				return;
+			int party = this.parties[position];
+			this.parties[position] = this.parties[largest];
+			this.parties[largest] = party;
+			position = largest;
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package polltracker;
+
+import java.util.Arrays;
+
+/**
+ * Running totals of projected seats and votes for every party seen so far,
+ * kept up to date as parties are added and removed so that average party data
+ * can be read without going back over the polls. Parties are numbered by their
+ * ids in a PartyDictionary, so they are matched by name ignoring case, and
+ * only values greater than zero are counted, the same as in
+ * PollList.getAveragePartyData. Each value can be given a weight, so the
+ * averages can favour some polls over others. Totals are kept as doubles so
+ * that removing a party doesn't leave rounding errors behind.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class RunningPartySums {
+	private PartyDictionary dictionary;
+	private double[] seats = new double[16];
+	private double[] votes = new double[16];
+	// The total weight of the values in seats and votes, which is the number of
+	// values when every weight is 1.
+	private double[] seatsWeight = new double[16];
+	private double[] votesWeight = new double[16];
+	// The number of values in seats and votes, so the totals can be cleared
+	// exactly once the last one is taken out.
+	private int[] seatsPolls = new int[16];
+	private int[] votesPolls = new int[16];
+
+	/**
+	 * Creates empty totals for parties numbered by a dictionary.
+	 *
+	 * @param dictionary The dictionary that gives the parties their ids.
+	 */
+	RunningPartySums(PartyDictionary dictionary) {
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * Adds one poll's projections for a party to the totals.
+	 *
+	 * @param partyName  The name of the party.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 */
+	void add(String partyName, float partySeats, float partyVotes) {
+		this.add(this.partyId(partyName), partySeats, partyVotes, 1);
+	}
+
+	/**
+	 * Adds one poll's projections for a party to the totals, for callers that
+	 * number the parties themselves instead of using names.
+	 *
+	 * @param id         The number of the party, from 0 up.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 */
+	void add(int id, float partySeats, float partyVotes) {
+		this.add(id, partySeats, partyVotes, 1);
+	}
+
+	/**
+	 * Adds one poll's projections for a party to the totals, counting them weight
+	 * times.
+	 *
+	 * @param id         The number of the party, from partyId.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 * @param weight     How much the poll counts towards the averages.
+	 */
+	void add(int id, float partySeats, float partyVotes, double weight) {
+		if (id >= this.seats.length)
+			this.grow(id + 1);
+		if (partySeats > 0) {
+			this.seats[id] += weight * partySeats;
+			this.seatsWeight[id] += weight;
+			this.seatsPolls[id]++;
+		}
+		if (partyVotes > 0) {
+			this.votes[id] += weight * partyVotes;
+			this.votesWeight[id] += weight;
+			this.votesPolls[id]++;
+		}
+	}
+
+	/**
+	 * Takes one poll's projections for a party back out of the totals. The values
+	 * must be the same as when they were added.
+	 *
+	 * @param partyName  The name of the party.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 */
+	void remove(String partyName, float partySeats, float partyVotes) {
+		this.remove(this.partyId(partyName), partySeats, partyVotes, 1);
+	}
+
+	/**
+	 * Takes one poll's projections for a party back out of the totals. The values
+	 * and weight must be the same as when they were added.
+	 *
+	 * @param id         The number of the party, from partyId.
+	 * @param partySeats The projected number of seats of the party.
+	 * @param partyVotes The projected percentage of votes of the party.
+	 * @param weight     The weight the values were added with.
+	 */
+	void remove(int id, float partySeats, float partyVotes, double weight) {
+		if (partySeats > 0) {
+			this.seats[id] -= weight * partySeats;
+			this.seatsWeight[id] -= weight;
+			this.seatsPolls[id]--;
+
+			// Clear any rounding error once the last value is gone
+			if (this.seatsPolls[id] == 0) {
+				this.seats[id] = 0;
+				this.seatsWeight[id] = 0;
+			}
+		}
+		if (partyVotes > 0) {
+			this.votes[id] -= weight * partyVotes;
+			this.votesWeight[id] -= weight;
+			this.votesPolls[id]--;
+			if (this.votesPolls[id] == 0) {
+				this.votes[id] = 0;
+				this.votesWeight[id] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Multiplies every total by the same factor, which leaves the averages the same
+	 * but keeps weights that keep growing from overflowing.
+	 *
+	 * @param factor The number to multiply by.
+	 */
+	void scale(double factor) {
+		for (int id = 0; id < this.seats.length; id++) {
+			this.seats[id] *= factor;
+			this.votes[id] *= factor;
+			this.seatsWeight[id] *= factor;
+			this.votesWeight[id] *= factor;
+		}
+	}
+
+	/**
+	 * Creates a party with the average projections of a party in the totals.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The party with its average number of seats and percentage of votes,
+	 *         which are zero if the party hasn't been added.
+	 */
+	Party average(String partyName) {
+		return this.average(partyName, this.dictionary.findId(partyName));
+	}
+
+	/**
+	 * Creates a party with the average projections of a party numbered by the
+	 * caller.
+	 *
+	 * @param partyName The name to give the party.
+	 * @param id        The number of the party, or -1 if it hasn't been added.
+	 * @return The party with its average number of seats and percentage of votes.
+	 */
+	Party average(String partyName, int id) {
+		Party avgParty = new Party(partyName);
+		if (id < 0 || id >= this.seats.length)
+			return avgParty;
+		if (this.seatsWeight[id] > 0)
+			avgParty.setProjectedNumberOfSeats((float) (this.seats[id] / this.seatsWeight[id]));
+		if (this.votesWeight[id] > 0)
+			avgParty.setProjectedPercentageOfVotes((float) (this.votes[id] / this.votesWeight[id]));
+		return avgParty;
+	}
+
+	/**
+	 * Gets the number of a party from its name, which is its id in the
+	 * dictionary.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The number of the party.
+	 */
+	int partyId(String partyName) {
+		return this.dictionary.getId(partyName);
+	}
+
+	/**
+	 * Makes room in the totals for at least a number of parties.
+	 */
+	private void grow(int numOfParties) {
+		int newLength = Math.max(numOfParties, this.seats.length * 2);
+		this.seats = Arrays.copyOf(this.seats, newLength);
+		this.votes = Arrays.copyOf(this.votes, newLength);
+		this.seatsWeight = Arrays.copyOf(this.seatsWeight, newLength);
+		this.votesWeight = Arrays.copyOf(this.votesWeight, newLength);
+		this.seatsPolls = Arrays.copyOf(this.seatsPolls, newLength);
+		this.votesPolls = Arrays.copyOf(this.votesPolls, newLength);
+	}
+}
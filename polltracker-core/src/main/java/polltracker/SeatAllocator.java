@@ -0,0 +1,67 @@
+package polltracker;
+
+/**
+ * A method of turning the votes of each party into seats. Allocators keep the
+ * arrays they work in between calls, so allocating seats over and over, such as
+ * in a SeatSimulator, doesn't create any objects. An allocator should only be
+ * used by one thread at a time; copy gives another thread its own.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public abstract class SeatAllocator {
+
+	/**
+	 * Allocates seats to parties from their votes.
+	 *
+	 * @param votes        The votes, or shares of the vote, of each party. Only the
+	 *                     first numOfParties are used.
+	 * @param numOfParties The number of parties.
+	 * @param numOfSeats   The number of seats to allocate.
+	 * @param seats        Where to put the number of seats of each party.
+	 */
+	public abstract void allocate(double[] votes, int numOfParties, int numOfSeats, int[] seats);
+
+	/**
+	 * Creates a new allocator using the same method, with its own arrays, for
+	 * another thread to use.
+	 *
+	 * @return The new allocator.
+	 */
+	public abstract SeatAllocator copy();
+
+	/**
+	 * Allocates seats to the parties in a poll from their projected share of the
+	 * vote.
+	 *
+	 * @param aPoll      The poll to allocate seats in.
+	 * @param numOfSeats The number of seats to allocate.
+	 * @return The seats of each party, in the order of aPoll.getParties().
+	 */
+	public int[] allocate(Poll aPoll, int numOfSeats) {
+		int numOfParties = aPoll.getNumberOfParties();
+		Party[] parties = aPoll.getParties();
+		double[] votes = new double[numOfParties];
+		for (int party = 0; party < numOfParties; party++) {
+			votes[party] = parties[party].getProjectedPercentageOfVotes();
+		}
+		int[] seats = new int[numOfParties];
+		this.allocate(votes, numOfParties, Math.max(numOfSeats, 0), seats);
+		return seats;
+	}
+
+	/**
+	 * Sets the projected number of seats of each party in a poll to the seats
+	 * allocated from their projected share of the vote.
+	 *
+	 * @param aPoll      The poll to allocate seats in.
+	 * @param numOfSeats The number of seats to allocate.
+	 */
+	public void setProjectedSeats(Poll aPoll, int numOfSeats) {
+		int[] seats = this.allocate(aPoll, numOfSeats);
+		Party[] parties = aPoll.getParties();
+		for (int party = 0; party < seats.length; party++) {
+			parties[party].setProjectedNumberOfSeats(seats[party]);
+		}
+	}
+}
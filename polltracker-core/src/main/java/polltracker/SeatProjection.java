@@ -0,0 +1,156 @@
+package polltracker;
+
+import java.util.Locale;
+
+/**
+ * The result of simulating many elections with a SeatSimulator: how often each
+ * party won each number of seats, and how often it won the most seats.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SeatProjection {
+	private String[] partyNames;
+	private int numOfSeats;
+	private int numOfSimulations;
+	// seatCounts[party][seats] is the number of simulations the party won that
+	// many seats in
+	private long[][] seatCounts;
+	private double[] wins;
+
+	/**
+	 * Creates a projection from the counts of a number of simulations.
+	 *
+	 * @param partyNames       The names of the parties.
+	 * @param numOfSeats       The number of seats in the election.
+	 * @param numOfSimulations The number of simulations run.
+	 * @param seatCounts       For each party, the number of simulations it won
+	 *                         each number of seats in.
+	 * @param wins             For each party, the number of simulations it won
+	 *                         the most seats in, with ties shared.
+	 */
+	SeatProjection(String[] partyNames, int numOfSeats, int numOfSimulations, long[][] seatCounts, double[] wins) {
+		this.partyNames = partyNames;
+		this.numOfSeats = numOfSeats;
+		this.numOfSimulations = numOfSimulations;
+		this.seatCounts = seatCounts;
+		this.wins = wins;
+	}
+
+	public int getNumOfSimulations() {
+		return this.numOfSimulations;
+	}
+
+	public int getNumOfParties() {
+		return this.partyNames.length;
+	}
+
+	public String getPartyName(int party) {
+		return this.partyNames[party];
+	}
+
+	/**
+	 * Finds the position of a party in the projection, ignoring case.
+	 *
+	 * @param partyName The name of the party.
+	 * @return The position of the party, or -1 if it isn't in the projection.
+	 */
+	public int indexOf(String partyName) {
+		for (int party = 0; party < this.partyNames.length; party++) {
+			if (this.partyNames[party].equalsIgnoreCase(partyName))
+				return party;
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the chance that a party wins exactly a number of seats.
+	 *
+	 * @param party The position of the party.
+	 * @param seats The number of seats.
+	 * @return The share of simulations the party won that many seats in.
+	 */
+	public double getSeatProbability(int party, int seats) {
+		if (seats < 0 || seats > this.numOfSeats || this.numOfSimulations == 0)
+			return 0;
+		return (double) this.seatCounts[party][seats] / this.numOfSimulations;
+	}
+
+	/**
+	 * Gets the average number of seats a party won.
+	 *
+	 * @param party The position of the party.
+	 * @return The mean number of seats over all the simulations.
+	 */
+	public double getMeanSeats(int party) {
+		if (this.numOfSimulations == 0)
+			return 0;
+		double total = 0;
+		for (int seats = 0; seats <= this.numOfSeats; seats++) {
+			total += (double) seats * this.seatCounts[party][seats];
+		}
+		return total / this.numOfSimulations;
+	}
+
+	/**
+	 * Gets the smallest number of seats that a party won at most in a share of
+	 * the simulations, such as the median for 0.5.
+	 *
+	 * @param party    The position of the party.
+	 * @param fraction The share of simulations, between zero and one.
+	 * @return The number of seats.
+	 */
+	public int getSeatsAtPercentile(int party, double fraction) {
+		long needed = (long) Math.ceil(fraction * this.numOfSimulations);
+		long count = 0;
+		for (int seats = 0; seats <= this.numOfSeats; seats++) {
+			count += this.seatCounts[party][seats];
+			if (count >= needed && count > 0)
+				return seats;
+		}
+		return this.numOfSeats;
+	}
+
+	/**
+	 * Gets the chance that a party wins more seats than any other party, with ties
+	 * shared between the tied parties.
+	 *
+	 * @param party The position of the party.
+	 * @return The share of simulations the party won the most seats in.
+	 */
+	public double getWinProbability(int party) {
+		if (this.numOfSimulations == 0)
+			return 0;
+		return this.wins[party] / this.numOfSimulations;
+	}
+
+	/**
+	 * Gets the chance that a party wins more than half of the seats.
+	 *
+	 * @param party The position of the party.
+	 * @return The share of simulations the party won a majority in.
+	 */
+	public double getMajorityProbability(int party) {
+		double probability = 0;
+		for (int seats = this.numOfSeats / 2 + 1; seats <= this.numOfSeats; seats++) {
+			probability += this.getSeatProbability(party, seats);
+		}
+		return probability;
+	}
+
+	/**
+	 * Displays each party's median seats with a 90% range, and its chances of
+	 * winning the most seats and a majority.
+	 */
+	public String toString() {
+		StringBuilder projection = new StringBuilder();
+		projection.append(this.numOfSimulations).append(" simulations, ").append(this.numOfSeats).append(" seats\n");
+		for (int party = 0; party < this.partyNames.length; party++) {
+			projection.append(String.format(Locale.ROOT, "%s: %d seats (%d-%d), most seats %.1f%%, majority %.1f%%\n",
+					this.partyNames[party], this.getSeatsAtPercentile(party, .5),
+					this.getSeatsAtPercentile(party, .05), this.getSeatsAtPercentile(party, .95),
+					100 * this.getWinProbability(party), 100 * this.getMajorityProbability(party)));
+		}
+		return projection.toString();
+	}
+}
@@ -0,0 +1,261 @@
+package polltracker;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Simulates many possible election outcomes from the estimated share of the
+ * vote of each party, allocating the seats in each one, to find how likely
+ * each party is to win each number of seats. In each simulation every party's
+ * share of the vote is drawn from a normal distribution around its estimate,
+ * with the estimate's standard error, and the seats are allocated by a
+ * SeatAllocator, the D'Hondt method unless another is given.
+ *
+ * Simulations are run in blocks in a ForkJoinPool. Each block has its own
+ * random number generator split from the seed, its own copy of the allocator,
+ * and counts seats in its own arrays of ints, so threads never share anything
+ * while they run, and the
+ * same seed gives the same projection however many threads are used.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SeatSimulator {
+	// The number of simulations each task runs in one go.
+	static final int SIMULATIONS_PER_BLOCK = 4096;
+
+	private String[] partyNames;
+	private double[] meanVotes;
+	private double[] standardErrors;
+	private int numOfSeats;
+	private SeatAllocator allocator;
+
+	/**
+	 * Creates a simulator from estimates of each party's share of the vote, which
+	 * allocates seats by the D'Hondt method.
+	 *
+	 * @param estimates  The estimate for each party in the election.
+	 * @param numOfSeats The number of seats available in the election.
+	 */
+	public SeatSimulator(PartyEstimate[] estimates, int numOfSeats) {
+		this(estimates, numOfSeats, HighestAveragesAllocator.dHondt());
+	}
+
+	/**
+	 * Creates a simulator from estimates of each party's share of the vote.
+	 *
+	 * @param estimates  The estimate for each party in the election.
+	 * @param numOfSeats The number of seats available in the election.
+	 * @param allocator  The method of allocating seats, which is copied for each
+	 *                   block of simulations.
+	 */
+	public SeatSimulator(PartyEstimate[] estimates, int numOfSeats, SeatAllocator allocator) {
+		this.allocator = allocator;
+		int numOfParties = estimates.length;
+		this.partyNames = new String[numOfParties];
+		this.meanVotes = new double[numOfParties];
+		this.standardErrors = new double[numOfParties];
+		for (int party = 0; party < numOfParties; party++) {
+			this.partyNames[party] = estimates[party].getName();
+			this.meanVotes[party] = estimates[party].getMeanVotes();
+			this.standardErrors[party] = estimates[party].getStandardError();
+		}
+		this.numOfSeats = Math.max(numOfSeats, 0);
+	}
+
+	/**
+	 * Creates a simulator for the parties in a PollList, using the estimates
+	 * weighted by sample size. A party that isn't in any poll with a sample size
+	 * uses its average share of the vote across all polls, with a standard error
+	 * from the spread between those polls.
+	 *
+	 * @param pollList   The polls to take the estimates from.
+	 * @param partyNames The parties in the election.
+	 * @return The simulator.
+	 */
+	public static SeatSimulator fromPollList(PollList pollList, String[] partyNames) {
+		return fromPollList(pollList, partyNames, HighestAveragesAllocator.dHondt());
+	}
+
+	/**
+	 * Creates a simulator for the parties in a PollList, the same as
+	 * fromPollList(pollList, partyNames), with a method of allocating seats.
+	 *
+	 * @param pollList   The polls to take the estimates from.
+	 * @param partyNames The parties in the election.
+	 * @param allocator  The method of allocating seats.
+	 * @return The simulator.
+	 */
+	public static SeatSimulator fromPollList(PollList pollList, String[] partyNames, SeatAllocator allocator) {
+		PartyEstimate[] estimates = pollList.getWeightedPartyEstimates(partyNames);
+		PartyEstimate[] spreadEstimates = null;
+		for (int party = 0; party < estimates.length; party++) {
+			if (estimates[party].getNumOfPolls() > 0)
+				continue;
+			if (spreadEstimates == null)
+				spreadEstimates = pollList.spreadPartyEstimates(partyNames);
+			estimates[party] = spreadEstimates[party];
+		}
+		return new SeatSimulator(estimates, pollList.getNumOfSeats(), allocator);
+	}
+
+	/**
+	 * Runs a number of simulations in the common ForkJoinPool.
+	 *
+	 * @param numOfSimulations The number of elections to simulate.
+	 * @param seed             The seed for the random numbers.
+	 * @return The seat projection of every party.
+	 */
+	public SeatProjection simulate(int numOfSimulations, long seed) {
+		return this.simulate(numOfSimulations, seed, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Runs a number of simulations, splitting them between the threads of a
+	 * ForkJoinPool. The result only depends on the seed, not on the pool.
+	 *
+	 * @param numOfSimulations The number of elections to simulate.
+	 * @param seed             The seed for the random numbers.
+	 * @param pool             The pool to run in, or null to run in the calling
+	 *                         thread.
+	 * @return The seat projection of every party.
+	 */
+	public SeatProjection simulate(int numOfSimulations, long seed, ForkJoinPool pool) {
+		numOfSimulations = Math.max(numOfSimulations, 0);
+		int numOfBlocks = (numOfSimulations + SIMULATIONS_PER_BLOCK - 1) / SIMULATIONS_PER_BLOCK;
+
+		// Split the generators in order up front so each block gets the same numbers
+		// whichever thread runs it
+		SplittableRandom random = new SplittableRandom(seed);
+		SplittableRandom[] randoms = new SplittableRandom[numOfBlocks];
+		for (int block = 0; block < numOfBlocks; block++) {
+			randoms[block] = random.split();
+		}
+
+		SimulationBlock[] blocks = new SimulationBlock[numOfBlocks];
+		SimulateBlocksAction action = new SimulateBlocksAction(numOfSimulations, randoms, blocks, 0, numOfBlocks);
+		if (pool == null || numOfBlocks < 2)
+			action.compute();
+		else
+			pool.invoke(action);
+
+		long[][] seatCounts = new long[this.partyNames.length][this.numOfSeats + 1];
+		double[] wins = new double[this.partyNames.length];
+		for (SimulationBlock block : blocks) {
+			block.addTo(seatCounts, wins);
+		}
+		return new SeatProjection(this.partyNames, this.numOfSeats, numOfSimulations, seatCounts, wins);
+	}
+
+	/**
+	 * Runs the simulations of one block and counts how many seats each party won.
+	 */
+	private class SimulationBlock {
+		private int[][] seatCounts;
+		private double[] wins;
+		// Reused by every simulation in the block
+		private SeatAllocator blockAllocator;
+		private double[] votes;
+		private int[] seats;
+		private int[] winners;
+
+		SimulationBlock() {
+			int numOfParties = partyNames.length;
+			this.seatCounts = new int[numOfParties][numOfSeats + 1];
+			this.wins = new double[numOfParties];
+			this.blockAllocator = allocator.copy();
+			this.votes = new double[numOfParties];
+			this.seats = new int[numOfParties];
+			this.winners = new int[numOfParties];
+		}
+
+		void run(int numOfSimulations, SplittableRandom random) {
+			int numOfParties = partyNames.length;
+			for (int simulation = 0; simulation < numOfSimulations; simulation++) {
+				for (int party = 0; party < numOfParties; party++) {
+					this.votes[party] = Math.max(0, meanVotes[party] + standardErrors[party] * nextGaussian(random));
+				}
+				this.blockAllocator.allocate(this.votes, numOfParties, numOfSeats, this.seats);
+
+				// Count the seats, and split the win between the parties with the most
+				int mostSeats = -1;
+				int numOfWinners = 0;
+				for (int party = 0; party < numOfParties; party++) {
+					this.seatCounts[party][this.seats[party]]++;
+					if (this.seats[party] > mostSeats) {
+						mostSeats = this.seats[party];
+						numOfWinners = 0;
+					}
+					if (this.seats[party] == mostSeats)
+						this.winners[numOfWinners++] = party;
+				}
+				for (int winner = 0; winner < numOfWinners; winner++) {
+					this.wins[this.winners[winner]] += 1.0 / numOfWinners;
+				}
+			}
+		}
+
+		void addTo(long[][] totalSeatCounts, double[] totalWins) {
+			for (int party = 0; party < this.seatCounts.length; party++) {
+				for (int seat = 0; seat < this.seatCounts[party].length; seat++) {
+					totalSeatCounts[party][seat] += this.seatCounts[party][seat];
+				}
+				totalWins[party] += this.wins[party];
+			}
+		}
+	}
+
+	/**
+	 * Runs a range of blocks in a ForkJoinPool, splitting the range in half until
+	 * each task has one block.
+	 */
+	private class SimulateBlocksAction extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private int numOfSimulations;
+		private SplittableRandom[] randoms;
+		private SimulationBlock[] blocks;
+		private int fromBlock;
+		private int toBlock;
+
+		SimulateBlocksAction(int numOfSimulations, SplittableRandom[] randoms, SimulationBlock[] blocks,
+				int fromBlock, int toBlock) {
+			this.numOfSimulations = numOfSimulations;
+			this.randoms = randoms;
+			this.blocks = blocks;
+			this.fromBlock = fromBlock;
+			this.toBlock = toBlock;
+		}
+
+		protected void compute() {
+			if (this.toBlock - this.fromBlock <= 1) {
+				for (int block = this.fromBlock; block < this.toBlock; block++) {
+					SimulationBlock simulations = new SimulationBlock();
+					int start = block * SIMULATIONS_PER_BLOCK;
+					simulations.run(Math.min(SIMULATIONS_PER_BLOCK, this.numOfSimulations - start),
+							this.randoms[block]);
+					this.blocks[block] = simulations;
+				}
+			} else {
+				int middle = (this.fromBlock + this.toBlock) >>> 1;
+				invokeAll(new SimulateBlocksAction(this.numOfSimulations, this.randoms, this.blocks, this.fromBlock,
+						middle),
+						new SimulateBlocksAction(this.numOfSimulations, this.randoms, this.blocks, middle,
+								this.toBlock));
+			}
+		}
+	}
+
+	/**
+	 * Draws a number from the standard normal distribution by the polar method.
+	 */
+	private static double nextGaussian(SplittableRandom random) {
+		double x, y, radiusSquared;
+		do {
+			x = 2 * random.nextDouble() - 1;
+			y = 2 * random.nextDouble() - 1;
+			radiusSquared = x * x + y * y;
+		} while (radiusSquared >= 1 || radiusSquared == 0);
+		return x * Math.sqrt(-2 * Math.log(radiusSquared) / radiusSquared);
+	}
+}
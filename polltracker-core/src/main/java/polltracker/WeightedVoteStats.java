@@ -0,0 +1,127 @@
+package polltracker;
+
+/**
+ * Streaming statistics of the projected share of the vote of a number of
+ * parties, where each poll is weighted by its sample size. The weighted mean
+ * and the weighted sum of squared differences from the mean are updated one
+ * poll at a time with West's weighted version of Welford's algorithm, which
+ * stays accurate over millions of polls where summing squares would lose
+ * precision. Only values greater than zero are counted, the same as in
+ * PollList.getAveragePartyData.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class WeightedVoteStats {
+	private int[] numOfPolls;
+	private long[] sampleSize;
+	private double[] weight;
+	private double[] weightSquared;
+	private double[] meanVotes;
+	private double[] squaredDifferences;
+	private double[] seats;
+	private double[] seatsWeight;
+
+	/**
+	 * Creates empty statistics for a number of parties.
+	 *
+	 * @param numOfParties The number of parties to keep statistics for.
+	 */
+	WeightedVoteStats(int numOfParties) {
+		numOfPolls = new int[numOfParties];
+		sampleSize = new long[numOfParties];
+		weight = new double[numOfParties];
+		weightSquared = new double[numOfParties];
+		meanVotes = new double[numOfParties];
+		squaredDifferences = new double[numOfParties];
+		seats = new double[numOfParties];
+		seatsWeight = new double[numOfParties];
+	}
+
+	/**
+	 * Adds one poll's projections for a party.
+	 *
+	 * @param party          The position of the party in the statistics.
+	 * @param partySeats     The projected number of seats of the party.
+	 * @param partyVotes     The projected share of the vote of the party.
+	 * @param pollSampleSize The number of people asked in the poll, greater than
+	 *                       zero.
+	 */
+	void add(int party, float partySeats, float partyVotes, int pollSampleSize) {
+		if (partySeats > 0) {
+			seats[party] += (double) pollSampleSize * partySeats;
+			seatsWeight[party] += pollSampleSize;
+		}
+		if (partyVotes > 0) {
+			numOfPolls[party]++;
+			sampleSize[party] += pollSampleSize;
+			weight[party] += pollSampleSize;
+			weightSquared[party] += (double) pollSampleSize * pollSampleSize;
+			double difference = partyVotes - meanVotes[party];
+			meanVotes[party] += difference * pollSampleSize / weight[party];
+			squaredDifferences[party] += pollSampleSize * difference * (partyVotes - meanVotes[party]);
+		}
+	}
+
+	/**
+	 * Creates a party with the weighted average projections of a party.
+	 *
+	 * @param name  The name to give the party.
+	 * @param party The position of the party in the statistics.
+	 * @return The party with its weighted average seats and share of the vote.
+	 */
+	Party average(String name, int party) {
+		Party avgParty = new Party(name);
+		if (seatsWeight[party] > 0)
+			avgParty.setProjectedNumberOfSeats((float) (seats[party] / seatsWeight[party]));
+		if (weight[party] > 0)
+			avgParty.setProjectedPercentageOfVotes((float) meanVotes[party]);
+		return avgParty;
+	}
+
+	/**
+	 * Creates the estimate of a party's share of the vote. The standard error is
+	 * the larger of the sampling error of all the people asked together and the
+	 * spread between polls, divided by the effective number of polls, so a party
+	 * whose polls disagree more than their sample sizes explain gets a wider
+	 * margin of error.
+	 *
+	 * @param name  The name of the party.
+	 * @param party The position of the party in the statistics.
+	 * @return The estimate for the party.
+	 */
+	PartyEstimate estimate(String name, int party) {
+		if (weight[party] == 0)
+			return new PartyEstimate(name, 0, 0, 0, 0);
+		double mean = meanVotes[party];
+		double samplingVariance = mean * (1 - mean) / sampleSize[party];
+		double pollVariance = 0;
+		double effectivePolls = weight[party] * weight[party] / weightSquared[party];
+		if (effectivePolls > 1) {
+			double spread = squaredDifferences[party] / weight[party] * effectivePolls / (effectivePolls - 1);
+			pollVariance = spread / effectivePolls;
+		}
+		double standardError = Math.sqrt(Math.max(samplingVariance, pollVariance));
+		return new PartyEstimate(name, numOfPolls[party], sampleSize[party], mean, standardError);
+	}
+
+	/**
+	 * Creates the estimate of a party's share of the vote from statistics where
+	 * every poll was added with the same weight, because the polls' sample sizes
+	 * aren't known. The standard error comes only from the spread between polls,
+	 * so a party in a single poll has none.
+	 *
+	 * @param name  The name of the party.
+	 * @param party The position of the party in the statistics.
+	 * @return The estimate for the party, with no sample size.
+	 */
+	PartyEstimate spreadEstimate(String name, int party) {
+		int polls = numOfPolls[party];
+		if (polls == 0)
+			return new PartyEstimate(name, 0, 0, 0, 0);
+		double standardError = 0;
+		if (polls > 1)
+			standardError = Math.sqrt(squaredDifferences[party] / weight[party] / (polls - 1));
+		return new PartyEstimate(name, polls, 0, meanVotes[party], standardError);
+	}
+}
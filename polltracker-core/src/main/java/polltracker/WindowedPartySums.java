@@ -0,0 +1,155 @@
+package polltracker;
+
+/**
+ * Average party data over the polls taken in the last few days, counting back
+ * from the most recent poll added. The values in the window are kept oldest
+ * first in a circular buffer, so adding a poll and dropping polls that have
+ * fallen out of the window take constant time for each value when polls arrive
+ * in date order. A poll that arrives out of order is moved back past the newer
+ * polls, and a poll older than the window is ignored.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class WindowedPartySums implements DatedPartySums {
+	private int days;
+	private RunningPartySums sums;
+	private int latestDay = Integer.MIN_VALUE;
+
+	// The values in the window, oldest first, starting at head. The length of
+	// the arrays is always a power of two so positions can wrap with a mask.
+	private int[] entryDays = new int[64];
+	private long[] entryKeys = new long[64];
+	private int[] entryIds = new int[64];
+	private float[] entrySeats = new float[64];
+	private float[] entryVotes = new float[64];
+	private int head = 0;
+	private int size = 0;
+
+	/**
+	 * Creates an empty window of a number of days.
+	 *
+	 * @param days       The number of days in the window, which includes the day
+	 *                   of the most recent poll.
+	 * @param dictionary The dictionary that gives the parties their ids.
+	 */
+	WindowedPartySums(int days, PartyDictionary dictionary) {
+		this.days = days;
+		this.sums = new RunningPartySums(dictionary);
+	}
+
+	public void add(int day, long entry, String partyName, float partySeats, float partyVotes) {
+		if (this.isBeforeWindow(day))
+			return;
+		if (this.size == this.entryDays.length)
+			this.grow();
+		int id = this.sums.partyId(partyName);
+
+		// Move newer values back one place to keep the buffer in date order
+		int position = this.size;
+		while (position > 0 && this.entryDays[this.slot(position - 1)] > day) {
+			this.move(this.slot(position - 1), this.slot(position));
+			position--;
+		}
+		int slot = this.slot(position);
+		this.entryDays[slot] = day;
+		this.entryKeys[slot] = entry;
+		this.entryIds[slot] = id;
+		this.entrySeats[slot] = partySeats;
+		this.entryVotes[slot] = partyVotes;
+		this.size++;
+		this.sums.add(id, partySeats, partyVotes, 1);
+
+		if (day > this.latestDay) {
+			this.latestDay = day;
+			this.dropOldValues();
+		}
+	}
+
+	public void remove(int day, long entry) {
+		// Values older than the window were dropped or never added
+		if (this.isBeforeWindow(day))
+			return;
+		for (int position = this.size - 1; position >= 0; position--) {
+			int slot = this.slot(position);
+			if (this.entryKeys[slot] == entry) {
+				this.sums.remove(this.entryIds[slot], this.entrySeats[slot], this.entryVotes[slot], 1);
+
+				// Move newer values forward one place to fill the gap
+				for (int later = position + 1; later < this.size; later++) {
+					this.move(this.slot(later), this.slot(later - 1));
+				}
+				this.size--;
+				return;
+			}
+		}
+		throw new IllegalStateException("No value in the window for entry " + entry);
+	}
+
+	public Party average(String partyName) {
+		return this.sums.average(partyName);
+	}
+
+	/**
+	 * Checks if a day is too long before the most recent poll to be in the window.
+	 */
+	private boolean isBeforeWindow(int day) {
+		return this.latestDay != Integer.MIN_VALUE && (long) day <= (long) this.latestDay - this.days;
+	}
+
+	/**
+	 * Takes the values that have fallen out of the window out of the totals.
+	 */
+	private void dropOldValues() {
+		while (this.size > 0 && this.isBeforeWindow(this.entryDays[this.head])) {
+			this.sums.remove(this.entryIds[this.head], this.entrySeats[this.head], this.entryVotes[this.head], 1);
+			this.head = this.slot(1);
+			this.size--;
+		}
+	}
+
+	/**
+	 * Gets the slot in the buffer of a position in the window, where 0 is the
+	 * oldest value.
+	 */
+	private int slot(int position) {
+		return (this.head + position) & (this.entryDays.length - 1);
+	}
+
+	/**
+	 * Copies the value in one slot to another.
+	 */
+	private void move(int from, int to) {
+		this.entryDays[to] = this.entryDays[from];
+		this.entryKeys[to] = this.entryKeys[from];
+		this.entryIds[to] = this.entryIds[from];
+		this.entrySeats[to] = this.entrySeats[from];
+		this.entryVotes[to] = this.entryVotes[from];
+	}
+
+	/**
+	 * Doubles the size of the buffer, moving the values so they start at slot 0.
+	 */
+	private void grow() {
+		int length = this.entryDays.length;
+		int[] days = new int[length * 2];
+		long[] keys = new long[length * 2];
+		int[] ids = new int[length * 2];
+		float[] seats = new float[length * 2];
+		float[] votes = new float[length * 2];
+		for (int position = 0; position < this.size; position++) {
+			int slot = this.slot(position);
+			days[position] = this.entryDays[slot];
+			keys[position] = this.entryKeys[slot];
+			ids[position] = this.entryIds[slot];
+			seats[position] = this.entrySeats[slot];
+			votes[position] = this.entryVotes[slot];
+		}
+		this.entryDays = days;
+		this.entryKeys = keys;
+		this.entryIds = ids;
+		this.entrySeats = seats;
+		this.entryVotes = votes;
+		this.head = 0;
+	}
+}
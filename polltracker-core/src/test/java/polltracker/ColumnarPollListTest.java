@@ -0,0 +1,228 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class ColumnarPollListTest {
+
+	private static Poll poll(String name, String[] partyNames, float[] seats, float[] votes) {
+		Poll aPoll = new Poll(name, partyNames.length);
+		for (int i = 0; i < partyNames.length; i++) {
+			aPoll.addParty(new Party(partyNames[i], seats[i], votes[i]));
+		}
+		return aPoll;
+	}
+
+	private static void addTestPolls(PollList pl) {
+		pl.addPoll(poll("poll1", new String[] { "zero", "one", "two" }, new float[] { 100f, 200f, 100f },
+				new float[] { .25f, .5f, .25f }));
+		pl.addPoll(poll("poll2", new String[] { "ZERO", "two" }, new float[] { 50f, 0f }, new float[] { .1f, .15f }));
+		pl.addPoll(poll("poll3", new String[] { "one", "two", "three" }, new float[] { 100f, 100f, 50f },
+				new float[] { .75f, .15f, 0f }));
+	}
+
+	@Test
+	public void test_getAggregatePoll_sameAsPollList() {
+		PollList expected = new PollList(3, 400);
+		ColumnarPollList actual = new ColumnarPollList(3, 400);
+		addTestPolls(expected);
+		addTestPolls(actual);
+
+		String[] partyNames = { "zero", "one", "two", "three", "missing" };
+		Poll expectedAggregate = expected.getAggregatePoll(partyNames);
+		Poll actualAggregate = actual.getAggregatePoll(partyNames);
+
+		assertEquals("Aggregate", actualAggregate.getPollName());
+		assertEquals(5, actualAggregate.getNumberOfParties());
+		for (String partyName : partyNames) {
+			assertEquals("Testing average seats of " + partyName,
+					expectedAggregate.getParty(partyName).getProjectedNumberOfSeats(),
+					actualAggregate.getParty(partyName).getProjectedNumberOfSeats(), 0.0);
+			assertEquals("Testing average votes of " + partyName,
+					expectedAggregate.getParty(partyName).getProjectedPercentageOfVotes(),
+					actualAggregate.getParty(partyName).getProjectedPercentageOfVotes(), 0.0);
+		}
+	}
+
+	@Test
+	public void test_getAggregatePoll_parallelSameAsSequential() {
+		PollList expected = new PollList(10, 400);
+		ColumnarPollList actual = new ColumnarPollList(10, 400);
+		for (int i = 0; i < 5000; i++) {
+			Poll p = new Poll("poll" + i, 3);
+			p.addParty(new Party("zero", i % 97, (i % 13) / 13f));
+			p.addParty(new Party("one", i % 31, (i % 7) / 7f));
+			if (i % 3 == 0)
+				p.addParty(new Party("two", 1.5f * (i % 11), .01f));
+			expected.addPoll(p);
+			actual.addPoll(p);
+		}
+		String[] partyNames = { "zero", "one", "two" };
+
+		Poll sequential = expected.getAggregatePoll(partyNames);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Poll parallel = actual.getAggregatePoll(partyNames, pool);
+			for (String partyName : partyNames) {
+				assertEquals("Expected identical average seats of " + partyName,
+						sequential.getParty(partyName).getProjectedNumberOfSeats(),
+						parallel.getParty(partyName).getProjectedNumberOfSeats(), 0.0);
+				assertEquals("Expected identical average votes of " + partyName,
+						sequential.getParty(partyName).getProjectedPercentageOfVotes(),
+						parallel.getParty(partyName).getProjectedPercentageOfVotes(), 0.0);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void test_getRunningAggregatePoll_sameAsGetAggregatePoll() {
+		ColumnarPollList pl = new ColumnarPollList(3, 400);
+		addTestPolls(pl);
+
+		String[] partyNames = { "zero", "one", "two", "three", "missing" };
+		Poll expected = pl.getAggregatePoll(partyNames);
+		Poll actual = pl.getRunningAggregatePoll(partyNames);
+		for (String partyName : partyNames) {
+			assertEquals("Testing running average seats of " + partyName,
+					expected.getParty(partyName).getProjectedNumberOfSeats(),
+					actual.getParty(partyName).getProjectedNumberOfSeats(), 0.0001);
+			assertEquals("Testing running average votes of " + partyName,
+					expected.getParty(partyName).getProjectedPercentageOfVotes(),
+					actual.getParty(partyName).getProjectedPercentageOfVotes(), 0.0001);
+		}
+	}
+
+	@Test
+	public void test_getNumOfPollsWithParty_sameAsPollList() {
+		PollList expected = new PollList(3, 400);
+		ColumnarPollList actual = new ColumnarPollList(3, 400);
+		addTestPolls(expected);
+		addTestPolls(actual);
+		for (String partyName : new String[] { "zero", "One", "two", "three", "four" }) {
+			assertEquals("Testing the number of polls with " + partyName, expected.getNumOfPollsWithParty(partyName),
+					actual.getNumOfPollsWithParty(partyName));
+		}
+		assertEquals(2, actual.getNumOfPollsWithParty("ZERO"));
+	}
+
+	@Test
+	public void test_getMedianPartyData_sameAsPollList() {
+		PollList expected = new PollList(3, 400);
+		ColumnarPollList actual = new ColumnarPollList(3, 400);
+		addTestPolls(expected);
+		addTestPolls(actual);
+		for (String partyName : new String[] { "zero", "one", "TWO", "three" }) {
+			Party expectedParty = expected.getMedianPartyData(partyName);
+			Party actualParty = actual.getMedianPartyData(partyName);
+			assertEquals("Testing median seats of " + partyName, expectedParty.getProjectedNumberOfSeats(),
+					actualParty.getProjectedNumberOfSeats(), 0.0);
+			assertEquals("Testing median votes of " + partyName, expectedParty.getProjectedPercentageOfVotes(),
+					actualParty.getProjectedPercentageOfVotes(), 0.0);
+		}
+	}
+
+	@Test
+	public void test_getAveragePartyData_caseInsensitive() {
+		ColumnarPollList pl = new ColumnarPollList(3, 400);
+		addTestPolls(pl);
+
+		Party actual = pl.getAveragePartyData("Zero");
+		assertEquals("Party 'zero' is in two polls, once as 'ZERO'. Testing average seats (avg of 100,50)", 75,
+				actual.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Zero", actual.getName());
+	}
+
+	@Test
+	public void test_getPoll_copiesPoll() {
+		ColumnarPollList pl = new ColumnarPollList(1, 400);
+		addTestPolls(pl);
+
+		assertEquals("Added three polls to list with room for one, expected list to grow", 3, pl.getNumOfPolls());
+		Poll p3 = pl.getPoll(2);
+		assertEquals("poll3", p3.getPollName());
+		assertEquals(3, p3.getNumberOfParties());
+		assertEquals(50f, p3.getParty("three").getProjectedNumberOfSeats(), 0.0001);
+		assertNull("Expected no poll after the last poll", pl.getPoll(3));
+		assertEquals("Expected toArray to hold a copy of each poll", 3, pl.toArray().length);
+	}
+
+	@Test
+	public void test_textVisualization_sameAsPollList() {
+		PollList expected = new PollList(3, 400);
+		ColumnarPollList actual = new ColumnarPollList(3, 400);
+		addTestPolls(expected);
+		addTestPolls(actual);
+
+		assertEquals(expected.textVisualizationByVotes().replace("ZERO", "zero"), actual.textVisualizationByVotes());
+		assertEquals(expected.toString().replace("ZERO", "zero"), actual.toString());
+	}
+
+	@Test
+	public void test_getWeightedPartyEstimates_sameAsPollList() {
+		PollList expected = new PollList(10, 400);
+		ColumnarPollList actual = new ColumnarPollList(10, 400);
+		for (int i = 0; i < 50; i++) {
+			Poll p = new Poll("poll" + i, 3);
+			p.setSampleSize(i % 5 == 0 ? 0 : 500 + 10 * i);
+			p.addParty(new Party("zero", i % 97, (i % 13) / 13f));
+			p.addParty(new Party(i % 2 == 0 ? "one" : "ONE", i % 31, (i % 7) / 7f));
+			expected.addPoll(p);
+			actual.addPoll(p);
+		}
+		String[] partyNames = { "zero", "one", "missing" };
+
+		PartyEstimate[] expectedEstimates = expected.getWeightedPartyEstimates(partyNames);
+		PartyEstimate[] actualEstimates = actual.getWeightedPartyEstimates(partyNames);
+		for (int party = 0; party < partyNames.length; party++) {
+			assertEquals(expectedEstimates[party].getNumOfPolls(), actualEstimates[party].getNumOfPolls());
+			assertEquals(expectedEstimates[party].getMeanVotes(), actualEstimates[party].getMeanVotes(), 0.0);
+			assertEquals(expectedEstimates[party].getStandardError(), actualEstimates[party].getStandardError(), 0.0);
+		}
+		assertEquals("Expected sample size in copy of poll", 510, actual.getPoll(1).getSampleSize());
+	}
+
+	@Test
+	public void test_getPoll_keepsColours() {
+		PollList expected = new PollList(3, 400);
+		ColumnarPollList actual = new ColumnarPollList(3, 400);
+		Poll p = poll("poll1", new String[] { "zero", "one", "two" }, new float[] { 100f, 200f, 100f },
+				new float[] { .25f, .5f, .25f });
+		p.getParty("zero").setColourRgb(0x123456);
+		p.getParty("one").setColour(new Color(10, 20, 30, 40));
+		expected.addPoll(p);
+		actual.addPoll(p);
+
+		assertEquals(expected.toArray()[0].toString(), actual.getPoll(0).toString());
+		assertEquals("Expected a translucent colour to keep its alpha", 40,
+				actual.getPoll(0).getParty("one").getColour().getAlpha());
+		assertFalse(actual.getPoll(0).getParty("two").hasColour());
+	}
+
+	@Test
+	public void test_getPoll_keepsDate() {
+		ColumnarPollList pl = new ColumnarPollList(3, 400);
+		Poll p = new Poll("poll1", 3, LocalDate.of(2021, 11, 22));
+		p.addParty(new Party("zero", 100f, .25f));
+		pl.addPoll(p);
+		addTestPolls(pl);
+
+		assertEquals(LocalDate.of(2021, 11, 22), pl.getPoll(0).getDate());
+		assertNull(pl.getPoll(1).getDate());
+		assertEquals("Expected only the dated poll in the window", 100f,
+				pl.getWindowedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_addPoll_null() {
+		ColumnarPollList pl = new ColumnarPollList(3, 400);
+		pl.addPoll(null);
+		assertEquals("Added null, should leave list unchanged", 0, pl.getNumOfPolls());
+	}
+}
@@ -0,0 +1,218 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class ConcurrentPollListTest {
+
+	private static Poll poll(String name, int i) {
+		Poll aPoll = new Poll(name, 3);
+		aPoll.addParty(new Party("zero", i % 97, (i % 13) / 13f));
+		aPoll.addParty(new Party("one", i % 31, (i % 7) / 7f));
+		aPoll.addParty(new Party("two", 1.5f * (i % 11), .01f));
+		return aPoll;
+	}
+
+	@Test
+	public void test_addPoll_growsPastFirstBuckets() {
+		ConcurrentPollList pl = new ConcurrentPollList(400);
+		for (int i = 0; i < 1000; i++) {
+			pl.addPoll(poll("poll" + i, i));
+		}
+		assertEquals(1000, pl.getNumOfPolls());
+		assertEquals(1000, pl.toArray().length);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals("Expected polls in the order they were added", "poll" + i, pl.getPoll(i).getPollName());
+		}
+		assertNull("Expected no poll after the last poll", pl.getPoll(1000));
+	}
+
+	@Test
+	public void test_getNumOfPollsWithParty() {
+		ConcurrentPollList pl = new ConcurrentPollList(400);
+		for (int i = 0; i < 20; i++) {
+			Poll aPoll = new Poll("poll" + i, 2);
+			aPoll.addParty(new Party("one", i, .5f));
+			if (i % 5 == 0)
+				aPoll.addParty(new Party("Concurrent Minor", 1f, .01f));
+			pl.addPoll(aPoll);
+		}
+		assertEquals(20, pl.getNumOfPollsWithParty("ONE"));
+		assertEquals(4, pl.getNumOfPollsWithParty("concurrent minor"));
+		assertEquals(0, pl.getNumOfPollsWithParty("Concurrent Never Polled"));
+	}
+
+	@Test
+	public void test_getMedianPartyData_sameAsPollList() {
+		ConcurrentPollList pl = new ConcurrentPollList(400);
+		PollList expected = new PollList(10, 400);
+		for (int i = 0; i < 500; i++) {
+			pl.addPoll(poll("poll" + i, i));
+			expected.addPoll(poll("poll" + i, i));
+		}
+		assertEquals(expected.getMedianPartyData("two").getProjectedNumberOfSeats(),
+				pl.getMedianPartyData("two").getProjectedNumberOfSeats(), 0.0);
+		assertEquals(expected.getQuantilePartyData("zero", 0.9).getProjectedPercentageOfVotes(),
+				pl.getQuantilePartyData("zero", 0.9).getProjectedPercentageOfVotes(), 0.0);
+	}
+
+	@Test
+	public void test_addPoll_null() {
+		ConcurrentPollList pl = new ConcurrentPollList(400);
+		pl.addPoll(null);
+		assertEquals("Added null, should leave list unchanged", 0, pl.getNumOfPolls());
+	}
+
+	@Test
+	public void test_addPoll_keepsCopy() {
+		ConcurrentPollList pl = new ConcurrentPollList(400);
+		Poll p = poll("poll1", 1);
+		pl.addPoll(p);
+		p.addParty(new Party("three", 10f, .1f));
+		p.getParty("zero").setProjectedNumberOfSeats(200f);
+
+		assertEquals("Expected parties added after the poll to be left out", 3, pl.getPoll(0).getNumberOfParties());
+		assertEquals(1f, pl.getPoll(0).getParty("zero").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getPoll_returnsCopy() {
+		ConcurrentPollList pl = new ConcurrentPollList(400);
+		pl.addPoll(poll("poll1", 1));
+		long stamp = pl.renderStamp();
+
+		Poll copy = pl.getPoll(0);
+		copy.addParty(new Party("three", 10f, .1f));
+		assertEquals("Expected a party to be added to the copy", 4, copy.getNumberOfParties());
+		pl.toArray()[0].getParty("zero").setProjectedNumberOfSeats(200f);
+
+		assertEquals("Expected the list's poll to be unchanged", 3, pl.getPoll(0).getNumberOfParties());
+		assertEquals(1f, pl.getPoll(0).getParty("zero").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(stamp, pl.renderStamp());
+	}
+
+	@Test
+	public void test_toString_keepsColours() {
+		ConcurrentPollList pl = new ConcurrentPollList(400);
+		PollList expected = new PollList(10, 400);
+		Poll p = poll("poll1", 1);
+		p.getParty("zero").setColourRgb(0x123456);
+		p.getParty("one").setColour(new Color(10, 20, 30, 40));
+		pl.addPoll(p);
+		expected.addPoll(p);
+
+		assertEquals(expected.toArray()[0].toString(), pl.getPoll(0).toString());
+		assertEquals("Expected a translucent colour to keep its alpha", 40,
+				pl.getPoll(0).getParty("one").getColour().getAlpha());
+		assertFalse(pl.getPoll(0).getParty("two").hasColour());
+	}
+
+	@Test
+	public void test_getWindowedAveragePartyData_sameAsPollList() {
+		ConcurrentPollList pl = new ConcurrentPollList(400);
+		PollList expected = new PollList(10, 400);
+		for (int i = 0; i < 50; i++) {
+			Poll p = new Poll("poll" + i, 2, LocalDate.of(2026, 1, 1).plusDays(i));
+			p.addParty(new Party("zero", i % 97, (i % 13) / 13f));
+			p.addParty(new Party("one", i % 31, (i % 7) / 7f));
+			p.setSampleSize(100 + i);
+			pl.addPoll(p);
+			expected.addPoll(p);
+		}
+
+		assertEquals(expected.getWindowedAveragePartyData("one", 7).getProjectedNumberOfSeats(),
+				pl.getWindowedAveragePartyData("one", 7).getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(expected.getWeightedAggregatePoll(new String[] { "zero" }).getParty("zero")
+				.getProjectedPercentageOfVotes(),
+				pl.getWeightedAggregatePoll(new String[] { "zero" }).getParty("zero").getProjectedPercentageOfVotes(),
+				0.0001);
+	}
+
+	@Test
+	public void test_getAggregatePoll_sameAsPollList() {
+		PollList expected = new PollList(10, 400);
+		ConcurrentPollList actual = new ConcurrentPollList(400);
+		for (int i = 0; i < 3000; i++) {
+			expected.addPoll(poll("poll" + i, i));
+			actual.addPoll(poll("poll" + i, i));
+		}
+		String[] partyNames = { "zero", "one", "two" };
+
+		Poll expectedAggregate = expected.getAggregatePoll(partyNames);
+		Poll actualAggregate = actual.getAggregatePoll(partyNames);
+		for (String partyName : partyNames) {
+			assertEquals("Testing average seats of " + partyName,
+					expectedAggregate.getParty(partyName).getProjectedNumberOfSeats(),
+					actualAggregate.getParty(partyName).getProjectedNumberOfSeats(), 0.0);
+			assertEquals("Testing average votes of " + partyName,
+					expectedAggregate.getParty(partyName).getProjectedPercentageOfVotes(),
+					actualAggregate.getParty(partyName).getProjectedPercentageOfVotes(), 0.0);
+		}
+		assertEquals(expected.textVisualizationBySeats(), actual.textVisualizationBySeats());
+	}
+
+	@Test
+	public void test_addPoll_concurrentWritersAndReaders() throws InterruptedException {
+		final ConcurrentPollList pl = new ConcurrentPollList(400);
+		final int numOfWriters = 4;
+		final int pollsPerWriter = 5000;
+		final AtomicBoolean writing = new AtomicBoolean(true);
+		final AtomicReference<String> failure = new AtomicReference<String>();
+
+		Thread[] writers = new Thread[numOfWriters];
+		for (int w = 0; w < numOfWriters; w++) {
+			final int writer = w;
+			writers[w] = new Thread() {
+				public void run() {
+					for (int i = 0; i < pollsPerWriter; i++) {
+						pl.addPoll(poll("writer" + writer + " poll" + i, i));
+					}
+				}
+			};
+		}
+		Thread reader = new Thread() {
+			public void run() {
+				int lastSeen = 0;
+				while (writing.get()) {
+					int numOfPolls = pl.getNumOfPolls();
+					if (numOfPolls < lastSeen)
+						failure.set("Number of polls went down from " + lastSeen + " to " + numOfPolls);
+					lastSeen = numOfPolls;
+					Poll[] polls = pl.toArray();
+					for (int poll = 0; poll < polls.length; poll++) {
+						if (polls[poll] == null || polls[poll].getNumberOfParties() != 3)
+							failure.set("Saw an incomplete poll at position " + poll);
+					}
+					pl.getAggregatePoll(new String[] { "zero" });
+				}
+			}
+		};
+
+		reader.start();
+		for (Thread writer : writers) {
+			writer.start();
+		}
+		for (Thread writer : writers) {
+			writer.join();
+		}
+		writing.set(false);
+		reader.join();
+
+		assertNull(failure.get(), failure.get());
+		assertEquals("Expected every poll from every writer", numOfWriters * pollsPerWriter, pl.getNumOfPolls());
+		boolean[] seen = new boolean[numOfWriters * pollsPerWriter];
+		for (Poll aPoll : pl.toArray()) {
+			String[] words = aPoll.getPollName().split(" ");
+			int writer = Integer.parseInt(words[0].substring("writer".length()));
+			int i = Integer.parseInt(words[1].substring("poll".length()));
+			assertFalse("Expected each poll once: " + aPoll.getPollName(), seen[writer * pollsPerWriter + i]);
+			seen[writer * pollsPerWriter + i] = true;
+		}
+	}
+}
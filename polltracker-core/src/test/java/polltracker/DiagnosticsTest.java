@@ -0,0 +1,85 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import polltracker.Diagnostics.Problem;
+
+public class DiagnosticsTest {
+	private final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+
+	@Before
+	public void setup() {
+		Diagnostics.flush();
+		Diagnostics.resetCounts();
+		Diagnostics.setSink(messages::add);
+	}
+
+	@After
+	public void teardown() {
+		Diagnostics.flush();
+		Diagnostics.setSink(System.out::println);
+	}
+
+	@Test
+	public void test_report_countsEachProblem() {
+		Party party = new Party("Diagnostics Party");
+		party.setProjectedNumberOfSeats(-1);
+		party.setProjectedPercentageOfVotes(2);
+		new Poll("Diagnostics Poll", 1).addParty(null);
+		assertEquals(2, Diagnostics.getCount(Problem.INVALID_INPUT));
+		assertEquals(1, Diagnostics.getCount(Problem.NULL_PARTY));
+		assertEquals(0, Diagnostics.getCount(Problem.POLL_FULL));
+	}
+
+	@Test
+	public void test_flush_writesMessagesInOrder() {
+		PollList list = new PollList(1, 10);
+		list.addPoll(null);
+		Poll aPoll = new Poll("Diagnostics Poll", 1);
+		aPoll.addParty(new Party("Diagnostics Party", 1, 0.5f));
+		aPoll.addParty(new Party("Diagnostics Other Party", 1, 0.5f));
+		Diagnostics.flush();
+		assertEquals("[Error, input poll is null, Error, Poll is full and further parties can't be added.]",
+				messages.toString());
+	}
+
+	@Test
+	public void test_report_formatsDetail() {
+		Diagnostics.report(Problem.PARTY_NOT_IN_POLL, "Diagnostics Poll");
+		Diagnostics.flush();
+		assertEquals("[The party is not in Diagnostics Poll]", messages.toString());
+	}
+
+	@Test
+	public void test_report_dropsMessagesWhenQueueFull() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		Diagnostics.setSink(message -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			messages.add(message);
+		});
+		for (int i = 0; i < Diagnostics.QUEUE_CAPACITY + 10; i++) {
+			Diagnostics.report(Problem.EMPTY_POLL, i);
+		}
+		assertEquals("Expected every problem to be counted", Diagnostics.QUEUE_CAPACITY + 10,
+				Diagnostics.getCount(Problem.EMPTY_POLL));
+		assertEquals(10, Diagnostics.getDroppedCount());
+
+		release.countDown();
+		Diagnostics.flush();
+		assertEquals(Diagnostics.QUEUE_CAPACITY, messages.size());
+		assertEquals("Poll 0 is empty", messages.get(0));
+	}
+}
@@ -0,0 +1,52 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class FactoryTest {
+	private static final String[] PARTY_NAMES = { "A", "B", "C", "D", "E" };
+
+	@Test
+	public void test_createRandomPollList_sharesAndSeatsAddUp() {
+		Factory factory = new Factory(338, 1L);
+		factory.setPartyNames(PARTY_NAMES);
+		PollList pl = factory.createRandomPollList(1000);
+
+		assertEquals(1000, pl.getNumOfPolls());
+		assertEquals(338, pl.getNumOfSeats());
+		Poll[] polls = pl.toArray();
+		for (int poll = 0; poll < pl.getNumOfPolls(); poll++) {
+			assertEquals("Poll " + (poll + 1), polls[poll].getPollName());
+			assertEquals(PARTY_NAMES.length, polls[poll].getNumberOfParties());
+			float votes = 0;
+			float seats = 0;
+			for (Party party : polls[poll].getParties()) {
+				if (party == null)
+					continue;
+				votes += party.getProjectedPercentageOfVotes();
+				seats += party.getProjectedNumberOfSeats();
+			}
+			assertEquals("Expected shares of the vote to add up to one", 1, votes, 1e-6);
+			assertEquals("Expected seats to add up to the number of seats", 338, seats, 0.0);
+		}
+	}
+
+	@Test
+	public void test_createRandomPollList_sameSeedSamePolls() {
+		Factory first = new Factory(100, 42L);
+		first.setPartyNames(PARTY_NAMES);
+		Factory second = new Factory(100, 42L);
+		second.setPartyNames(PARTY_NAMES);
+
+		assertEquals(first.createRandomPollList(50).toString(), second.createRandomPollList(50).toString());
+		assertEquals(first.createRandomPollList(5).textVisualizationByVotes(),
+				second.createRandomColumnarPollList(5).textVisualizationByVotes());
+	}
+
+	@Test
+	public void test_createRandomPollList_noPartyNames() {
+		Factory factory = new Factory(100, 1L);
+		assertEquals("Expected no polls without party names", 0, factory.createRandomPollList(10).getNumOfPolls());
+	}
+}
@@ -0,0 +1,90 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HighestAveragesAllocatorTest {
+
+	/**
+	 * Allocates one seat at a time by scanning every party, for comparison.
+	 */
+	private static int[] slowAllocate(double[] votes, int numOfSeats, double offset) {
+		int[] seats = new int[votes.length];
+		for (int seat = 0; seat < numOfSeats; seat++) {
+			int best = -1;
+			double bestQuotient = 0;
+			for (int party = 0; party < votes.length; party++) {
+				double quotient = votes[party] / (seats[party] + offset);
+				if (quotient > bestQuotient) {
+					best = party;
+					bestQuotient = quotient;
+				}
+			}
+			if (best < 0)
+				break;
+			seats[best]++;
+		}
+		return seats;
+	}
+
+	@Test
+	public void test_allocate_dHondt() {
+		int[] seats = new int[4];
+		HighestAveragesAllocator.dHondt().allocate(new double[] { 100000, 80000, 30000, 20000 }, 4, 8, seats);
+		assertArrayEquals("Textbook D'Hondt example", new int[] { 4, 3, 1, 0 }, seats);
+	}
+
+	@Test
+	public void test_allocate_sainteLague() {
+		int[] seats = new int[4];
+		HighestAveragesAllocator.sainteLague().allocate(new double[] { 100000, 80000, 30000, 20000 }, 4, 8, seats);
+		assertArrayEquals("Textbook Sainte-Lague example", new int[] { 3, 3, 1, 1 }, seats);
+	}
+
+	@Test
+	public void test_allocate_noVotes() {
+		int[] seats = { 7, 7, 7 };
+		HighestAveragesAllocator.dHondt().allocate(new double[] { 0, 0, 0 }, 3, 8, seats);
+		assertArrayEquals("No votes, expected no seats", new int[] { 0, 0, 0 }, seats);
+	}
+
+	@Test
+	public void test_allocate_sameAsOneSeatAtATime() {
+		Random random = new Random(11);
+		HighestAveragesAllocator dHondt = HighestAveragesAllocator.dHondt();
+		HighestAveragesAllocator sainteLague = HighestAveragesAllocator.sainteLague();
+		int[] seats = new int[50];
+		for (int trial = 0; trial < 500; trial++) {
+			int numOfParties = 1 + random.nextInt(50);
+			int numOfSeats = random.nextInt(601);
+			double[] votes = new double[numOfParties];
+			for (int party = 0; party < numOfParties; party++) {
+				votes[party] = random.nextInt(4) == 0 ? 0 : random.nextDouble();
+			}
+
+			dHondt.allocate(votes, numOfParties, numOfSeats, seats);
+			assertArrayEquals("D'Hondt trial " + trial, slowAllocate(votes, numOfSeats, 1),
+					Arrays.copyOf(seats, numOfParties));
+			sainteLague.allocate(votes, numOfParties, numOfSeats, seats);
+			assertArrayEquals("Sainte-Lague trial " + trial, slowAllocate(votes, numOfSeats, .5),
+					Arrays.copyOf(seats, numOfParties));
+		}
+	}
+
+	@Test
+	public void test_setProjectedSeats() {
+		Poll p = new Poll("poll", 3);
+		p.addParty(new Party("A", 0, .5f));
+		p.addParty(new Party("B", 0, .3f));
+		p.addParty(new Party("C", 0, .2f));
+		HighestAveragesAllocator.dHondt().setProjectedSeats(p, 10);
+
+		assertEquals(5, p.getParty("A").getProjectedNumberOfSeats(), 0.0);
+		assertEquals(3, p.getParty("B").getProjectedNumberOfSeats(), 0.0);
+		assertEquals(2, p.getParty("C").getProjectedNumberOfSeats(), 0.0);
+	}
+}
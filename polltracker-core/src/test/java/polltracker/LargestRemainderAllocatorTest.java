@@ -0,0 +1,43 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class LargestRemainderAllocatorTest {
+
+	@Test
+	public void test_allocate_hareQuota() {
+		int[] seats = new int[6];
+		new LargestRemainderAllocator().allocate(new double[] { 47000, 16000, 15800, 12000, 6100, 3100 }, 6, 10,
+				seats);
+		assertArrayEquals("Textbook largest remainder example", new int[] { 5, 2, 1, 1, 1, 0 }, seats);
+	}
+
+	@Test
+	public void test_allocate_noVotes() {
+		int[] seats = { 7, 7 };
+		new LargestRemainderAllocator().allocate(new double[] { 0, 0 }, 2, 5, seats);
+		assertArrayEquals("No votes, expected no seats", new int[] { 0, 0 }, seats);
+	}
+
+	@Test
+	public void test_allocate_leftoverSeatsSkipPartiesWithoutVotes() {
+		int[] seats = new int[3];
+		new LargestRemainderAllocator().allocate(new double[] { 0, 1, 1 }, 3, 3, seats);
+		assertArrayEquals("Expected a tie to go to the first party with votes", new int[] { 0, 2, 1 }, seats);
+	}
+
+	@Test
+	public void test_allocate_pollListAggregate() {
+		PollList pl = new PollList(5, 10);
+		Poll p = new Poll("poll", 3);
+		p.addParty(new Party("A", 1, .55f));
+		p.addParty(new Party("B", 1, .45f));
+		pl.addPoll(p);
+
+		Poll aggregate = pl.getAllocatedAggregatePoll(new String[] { "A", "B" }, new LargestRemainderAllocator());
+		assertEquals(6, aggregate.getParty("A").getProjectedNumberOfSeats(), 0.0);
+		assertEquals(4, aggregate.getParty("B").getProjectedNumberOfSeats(), 0.0);
+	}
+}
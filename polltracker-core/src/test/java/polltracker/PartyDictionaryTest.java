@@ -0,0 +1,73 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class PartyDictionaryTest {
+
+	@Test
+	public void test_getId_sameIdIgnoringCase() {
+		PartyDictionary dictionary = new PartyDictionary();
+		int id = dictionary.getId("Dictionary Test Party");
+		assertEquals(id, dictionary.getId("DICTIONARY TEST PARTY"));
+		assertEquals(id, dictionary.getId("dictionary test party"));
+		assertEquals("Expected the first spelling to be kept", "Dictionary Test Party", dictionary.getName(id));
+		assertNotEquals(id, dictionary.getId("Dictionary Test Party 2"));
+	}
+
+	@Test
+	public void test_findId_doesNotAddParty() {
+		PartyDictionary dictionary = new PartyDictionary();
+		int size = dictionary.size();
+		assertEquals(-1, dictionary.findId("Dictionary Party Never Added"));
+		assertEquals(-1, dictionary.findId(null));
+		assertEquals("Expected finding a missing party not to add it", size, dictionary.size());
+
+		int id = dictionary.getId("Dictionary Found Party");
+		assertEquals(id, dictionary.findId("dictionary FOUND party"));
+	}
+
+	@Test
+	public void test_intern_sharesOneCopy() {
+		PartyDictionary dictionary = new PartyDictionary();
+		String first = new String("Dictionary Interned Party");
+		String second = new String("Dictionary Interned Party");
+		assertSame(dictionary.intern(first), dictionary.intern(second));
+		assertEquals(first, dictionary.intern(second));
+	}
+
+	@Test
+	public void test_getId_sameIdFromManyThreads() throws Exception {
+		final PartyDictionary dictionary = new PartyDictionary();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			@SuppressWarnings("unchecked")
+			Future<int[]>[] futures = new Future[4];
+			for (int thread = 0; thread < futures.length; thread++) {
+				final boolean upperCase = thread % 2 == 0;
+				futures[thread] = executor.submit(() -> {
+					int[] ids = new int[500];
+					for (int party = 0; party < ids.length; party++) {
+						String name = "Dictionary Thread Party " + party;
+						ids[party] = dictionary.getId(upperCase ? name.toUpperCase() : name);
+					}
+					return ids;
+				});
+			}
+			int[] expected = futures[0].get();
+			for (int thread = 1; thread < futures.length; thread++) {
+				assertArrayEquals("Expected every thread to get the same ids", expected, futures[thread].get());
+			}
+			for (int party = 0; party < expected.length; party++) {
+				assertEquals(expected[party], dictionary.findId("dictionary thread party " + party));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
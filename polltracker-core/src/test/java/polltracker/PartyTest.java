@@ -1,3 +1,5 @@
+package polltracker;
+
 import static org.junit.Assert.*;
 
 import java.awt.Color;
@@ -145,6 +147,40 @@ public class PartyTest {
 		assertEquals("Name of Party ([0,255,255], 32% of votes, 123.2 seats)", p.toString());
 	}
 	
+	@Test
+	public void test_toString_colourRgb() 
+	{
+		Party p = new Party("Name of Party", 123.2f, 0.32f);
+		p.setColourRgb(0x0A141E);
+		assertEquals("Name of Party ([10,20,30], 32% of votes, 123.2 seats)", p.toString());
+	}
+	
+	// testing colours
+	@Test
+	public void test_getColour_sameAsColourSet() 
+	{
+		Party p = new Party("Name of Party");
+		assertFalse(p.hasColour());
+		assertNull(p.getColour());
+
+		Color translucent = new Color(10, 20, 30, 40);
+		p.setColour(translucent);
+		assertTrue(p.hasColour());
+		assertEquals("Expected an equal colour, including alpha", translucent, p.getColour());
+		assertEquals(translucent.getRGB(), p.getColourRgb());
+		assertSame("Expected the Color to be reused until the colour changes", p.getColour(), p.getColour());
+
+		p.setColourRgb(0x0A141E);
+		assertEquals("Expected a colour set from an int to be opaque", new Color(10, 20, 30), p.getColour());
+		p.setColour(translucent);
+		assertEquals("Expected the Color to follow a new colour", translucent, p.getColour());
+
+		p.setColour(null);
+		assertFalse(p.hasColour());
+		assertNull(p.getColour());
+		assertEquals("Name of Party (0% of votes, 0.0 seats)", p.toString());
+	}
+	
 	// testing projectedPercentOfSeats
 	@Test
 	public void test_projectedPercentOfSeats_MoreSeatsAvailableThanProjected() 
@@ -233,6 +269,34 @@ public class PartyTest {
 	}
 	
 	
+	// testing appendStarBar
+	@Test
+	public void test_appendStarBar_appendsToExistingText()
+	{
+		StringBuilder out = new StringBuilder("Bar: ");
+		Party.appendStarBar(out, 4, 10);
+		assertEquals("Bar: **** |      ", out.toString());
+	}
+	
+	@Test
+	public void test_appendStarBar_moreStarsThanRoom()
+	{
+		StringBuilder out = new StringBuilder();
+		Party.appendStarBar(out, 30, 10);
+		assertEquals("When there are more stars than room in the row, expecting the row to be filled with stars",
+				"*****|******", out.toString());
+	}
+	
+	@Test
+	public void test_appendStarBar_longerThanTemplate()
+	{
+		StringBuilder out = new StringBuilder();
+		Party.appendStarBar(out, 150, 200);
+		assertEquals("Expecting row of maxStars + 2 characters", 202, out.length());
+		assertEquals("Expecting bar at halfway point of 200 stars", '|', out.charAt(100));
+		assertEquals("Expecting 150 stars and the bar in the row", 151, out.toString().replace(" ", "").length());
+	}
+	
 	// testing textVisualizationByVotes
 	@Test
 	public void test_textVisualizationByVotes_zeroProjectedVotes()
@@ -0,0 +1,147 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+public class PollFileReaderTest {
+
+	private static BufferedReader input(String text) {
+		return new BufferedReader(new StringReader(text));
+	}
+
+	@Test
+	public void test_readCsv_twoPolls() throws IOException {
+		PollList pl = new PollList(5, 100);
+		PollFileReader reader = new PollFileReader(pl);
+		reader.readCsv(input("poll,party,seats,votes\n"
+				+ "Poll 1,Party A,60,0.55\n"
+				+ "Poll 1,Party B,40,0.45\n"
+				+ "Poll 2,Party A,30,0.3\n"));
+
+		assertEquals("Read two polls, expected two polls in list", 2, pl.getNumOfPolls());
+		assertEquals("Read three party rows", 3, reader.getRowsRead());
+		Poll p1 = pl.toArray()[0];
+		assertEquals("Poll 1", p1.getPollName());
+		assertEquals("Expected two parties in first poll", 2, p1.getNumberOfParties());
+		assertEquals(60, p1.getParty("Party A").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(0.45, p1.getParty("Party B").getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals("Expected one party in second poll", 1, pl.toArray()[1].getNumberOfParties());
+	}
+
+	@Test
+	public void test_readCsv_withDates() throws IOException {
+		PollList pl = new PollList(5, 100);
+		PollFileReader reader = new PollFileReader(pl);
+		reader.readCsv(input("poll,party,seats,votes,date\n"
+				+ "Poll 1,Party A,60,0.55,2021-11-22,1000\n"
+				+ "Poll 1,Party B,40,0.45,2021-11-22,1000\n"
+				+ "Poll 2,Party A,30,0.3\n"
+				+ "Poll 3,Party A,30,0.3,22/11/2021\n"));
+
+		assertEquals("Read two polls, expected two polls in list", 2, pl.getNumOfPolls());
+		assertEquals("Expected row with a date that can't be read to be skipped", 1, reader.getRowsSkipped());
+		assertEquals(LocalDate.of(2021, 11, 22), pl.toArray()[0].getDate());
+		assertEquals(1000, pl.toArray()[0].getSampleSize());
+		assertNull("Expected poll without a date column to have no date", pl.toArray()[1].getDate());
+	}
+
+	@Test
+	public void test_readJsonLines_withDate() throws IOException {
+		PollList pl = new PollList(5, 100);
+		PollFileReader reader = new PollFileReader(pl);
+		reader.readJsonLines(input("{\"poll\": \"Poll 1\", \"party\": \"Party A\", \"seats\": 60, \"votes\": 0.55, "
+				+ "\"date\": \"2021-11-22\", \"sample\": 1500}\n"));
+
+		assertEquals(1, pl.getNumOfPolls());
+		assertEquals(LocalDate.of(2021, 11, 22), pl.toArray()[0].getDate());
+		assertEquals(1500, pl.toArray()[0].getSampleSize());
+	}
+
+	@Test
+	public void test_readCsv_quotedFieldWithComma() throws IOException {
+		PollList pl = new PollList(5, 100);
+		new PollFileReader(pl).readCsv(input("\"Poll, with comma\",\"Party \"\"A\"\"\",10,0.1\n"));
+
+		Poll p1 = pl.toArray()[0];
+		assertEquals("Poll, with comma", p1.getPollName());
+		assertNotNull("Expected quotes inside quoted field to be unescaped", p1.getParty("Party \"A\""));
+	}
+
+	@Test
+	public void test_readCsv_skipsInvalidRows() throws IOException {
+		PollList pl = new PollList(5, 100);
+		PollFileReader reader = new PollFileReader(pl);
+		reader.readCsv(input("Poll 1,Party A,sixty,0.55\n"
+				+ "Poll 1,Party B\n"
+				+ "Poll 1,Party C,10,0.1\n"));
+
+		assertEquals("Expected only the valid row to be read", 1, reader.getRowsRead());
+		assertEquals("Expected two rows to be skipped", 2, reader.getRowsSkipped());
+		assertEquals(1, pl.toArray()[0].getNumberOfParties());
+	}
+
+	@Test
+	public void test_readCsv_skipsOutOfRangeRows() throws IOException {
+		PollList pl = new PollList(5, 100);
+		PollFileReader reader = new PollFileReader(pl);
+		reader.readCsv(input("Poll 1,Party A,60,32.5\n"
+				+ "Poll 1,Party B,10,-0.1\n"
+				+ "Poll 1,Party C,-10,0.1\n"
+				+ "Poll 1,Party D,NaN,0.1\n"
+				+ "Poll 1,Party E,10,1\n"));
+
+		assertEquals("Expected only the row in range to be read", 1, reader.getRowsRead());
+		assertEquals("Expected four rows to be skipped", 4, reader.getRowsSkipped());
+		assertEquals(1, pl.toArray()[0].getNumberOfParties());
+	}
+
+	@Test
+	public void test_readJsonLines_twoPolls() throws IOException {
+		PollList pl = new PollList(5, 100);
+		PollFileReader reader = new PollFileReader(pl);
+		reader.readJsonLines(input("{\"poll\": \"Poll 1\", \"party\": \"Party A\", \"seats\": 60, \"votes\": 0.55}\n"
+				+ "{\"party\":\"Party \\\"B\\\"\",\"poll\":\"Poll 1\",\"seats\":40,\"votes\":0.45,\"source\":\"x\"}\n"
+				+ "\n"
+				+ "{\"poll\": \"Poll 2\", \"party\": \"Party A\", \"seats\": \"30\", \"votes\": 0.3}\n"));
+
+		assertEquals("Read two polls, expected two polls in list", 2, pl.getNumOfPolls());
+		assertEquals("Read three party rows", 3, reader.getRowsRead());
+		Poll p1 = pl.toArray()[0];
+		assertEquals(60, p1.getParty("Party A").getProjectedNumberOfSeats(), 0.0001);
+		assertNotNull("Expected escaped quotes in party name to be unescaped", p1.getParty("Party \"B\""));
+		assertEquals(30, pl.toArray()[1].getParty("Party A").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_readJsonLines_skipsInvalidRows() throws IOException {
+		PollList pl = new PollList(5, 100);
+		PollFileReader reader = new PollFileReader(pl);
+		reader.readJsonLines(input("{\"poll\": \"Poll 1\", \"party\": \"Party A\", \"seats\": 60}\n"
+				+ "not json\n"
+				+ "{\"poll\": \"Poll 1\", \"party\": \"Party B\", \"seats\": 40, \"votes\": 0.45}\n"));
+
+		assertEquals("Expected only the valid row to be read", 1, reader.getRowsRead());
+		assertEquals("Expected two rows to be skipped", 2, reader.getRowsSkipped());
+	}
+
+	@Test
+	public void test_read_pickFormatFromFileName() throws IOException {
+		Path file = Files.createTempFile("polls", ".jsonl");
+		try {
+			Files.write(file, "{\"poll\": \"Poll 1\", \"party\": \"Party A\", \"seats\": 60, \"votes\": 0.55}\n".getBytes("UTF-8"));
+			PollList pl = new PollList(5, 100);
+			new PollFileReader(pl).read(file);
+			assertEquals("Expected .jsonl file to be read as JSON lines", 1, pl.getNumOfPolls());
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
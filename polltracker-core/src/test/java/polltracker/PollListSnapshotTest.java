@@ -0,0 +1,142 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PollListSnapshotTest {
+	private Path file;
+
+	@Before
+	public void createFile() throws IOException {
+		file = Files.createTempFile("polls", ".snapshot");
+	}
+
+	@After
+	public void deleteFile() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void test_writeThenRead_sameData() throws IOException {
+		Poll p1 = new Poll("Poll One", 3);
+		p1.addParty(new Party("Party A", 60f, .55f));
+		p1.addParty(new Party("Party B", 40f, .45f));
+		Poll p2 = new Poll("Poll \u00c9 Two", 3);
+		p2.addParty(new Party("Party B", 30f, .3f));
+		PollList pl = new PollList(5, 100);
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+
+		PollListSnapshot.write(pl, file);
+		PollList loaded = PollListSnapshot.read(file);
+
+		assertEquals("Expected number of seats to be saved", 100, loaded.getNumOfSeats());
+		assertEquals("Expected both polls to be saved", 2, loaded.getNumOfPolls());
+		Poll loaded1 = loaded.toArray()[0];
+		Poll loaded2 = loaded.toArray()[1];
+		assertEquals("Poll One", loaded1.getPollName());
+		assertEquals("Expected non-ASCII poll name to be saved", "Poll \u00c9 Two", loaded2.getPollName());
+		assertEquals(2, loaded1.getNumberOfParties());
+		assertEquals(60f, loaded1.getParty("Party A").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(.45f, loaded1.getParty("Party B").getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals(30f, loaded2.getParty("Party B").getProjectedNumberOfSeats(), 0.0001);
+		assertSame("Expected party names to be shared between polls", loaded1.getParty("Party B").getName(),
+				loaded2.getParty("Party B").getName());
+	}
+
+	@Test
+	public void test_writeThenRead_sameDatesAndSampleSizes() throws IOException {
+		Poll p1 = new Poll("Poll One", 3, LocalDate.of(2021, 11, 22));
+		p1.setSampleSize(1200);
+		p1.addParty(new Party("Party A", 60f, .55f));
+		Poll p2 = new Poll("Poll Two", 3);
+		p2.addParty(new Party("Party A", 30f, .3f));
+		PollList pl = new PollList(5, 100);
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+
+		PollListSnapshot.write(pl, file);
+		PollList loaded = PollListSnapshot.read(file);
+
+		assertEquals("Expected poll date to be saved", LocalDate.of(2021, 11, 22), loaded.toArray()[0].getDate());
+		assertNull("Expected poll without a date to be loaded without one", loaded.toArray()[1].getDate());
+		assertEquals("Expected sample size to be saved", 1200, loaded.toArray()[0].getSampleSize());
+		assertEquals("Expected dated poll in one-day window of loaded list", 60f,
+				loaded.getWindowedAveragePartyData("Party A", 1).getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_writeThenRead_emptyList() throws IOException {
+		PollList pl = new PollList(5, 50);
+		PollListSnapshot.write(pl, file);
+		PollList loaded = PollListSnapshot.read(file);
+		assertEquals(0, loaded.getNumOfPolls());
+		assertEquals(50, loaded.getNumOfSeats());
+	}
+
+	@Test(expected = IOException.class)
+	public void test_read_notASnapshot() throws IOException {
+		Files.write(file, "poll,party,seats,votes\n".getBytes("UTF-8"));
+		PollListSnapshot.read(file);
+	}
+
+	@Test(expected = IOException.class)
+	public void test_read_truncated() throws IOException {
+		Poll p1 = new Poll("Poll One", 3);
+		p1.addParty(new Party("Party A", 60f, .55f));
+		PollList pl = new PollList(5, 100);
+		pl.addPoll(p1);
+		PollListSnapshot.write(pl, file);
+
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 6));
+		PollListSnapshot.read(file);
+	}
+
+	@Test
+	public void test_read_countsTooLargeOrNegative() throws IOException {
+		Poll p1 = new Poll("Poll One", 3);
+		p1.addParty(new Party("Party A", 60f, .55f));
+		PollList pl = new PollList(5, 100);
+		pl.addPoll(p1);
+		PollListSnapshot.write(pl, file);
+		byte[] bytes = Files.readAllBytes(file);
+
+		// The number of polls, the number of names and the number of parties in
+		// the poll, which comes after the name, poll name, day and sample size
+		int partiesOffset = 24 + "Party A".length() + 4 + "Poll One".length() + 8;
+		int[] offsets = { 12, 16, partiesOffset };
+		for (int offset : offsets) {
+			for (int count : new int[] { Integer.MAX_VALUE, -1 }) {
+				byte[] corrupt = bytes.clone();
+				ByteBuffer.wrap(corrupt).putInt(offset, count);
+				Files.write(file, corrupt);
+				try {
+					PollListSnapshot.read(file);
+					fail("Expected a count of " + count + " at " + offset + " to be rejected");
+				} catch (IOException e) {
+					assertTrue(e.getMessage().startsWith("Corrupt poll list snapshot"));
+				}
+			}
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void test_read_olderVersion() throws IOException {
+		PollListSnapshot.write(new PollList(5, 100), file);
+		byte[] bytes = Files.readAllBytes(file);
+		ByteBuffer.wrap(bytes).putInt(4, 2);
+		Files.write(file, bytes);
+		PollListSnapshot.read(file);
+	}
+}
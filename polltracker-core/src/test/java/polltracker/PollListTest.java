@@ -0,0 +1,1216 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class PollListTest {
+	class PollMock extends Poll {
+		String name;
+		PartyMock[] parties;
+		int nextIndex = 0;
+		double expectedSeatsPerStar;
+		double expectedVotesPerStar;
+		int expectedMaxStars;
+		
+		public PollMock(String name, int maxNumberOfParties) {
+			super(name, maxNumberOfParties);
+			this.name = name;
+			parties = new PartyMock[maxNumberOfParties];
+		}
+		public String getName() {return name;}
+		public void addParties(PartyMock[] parties) {
+			this.parties = parties;
+			nextIndex = 0;
+		}
+		public Party getParty(String partyName) {
+			Party next = parties[nextIndex];
+			nextIndex = (nextIndex + 1) % parties.length;
+			return next;
+		}
+		public String textVisualizationBySeats(int maxStars, double numOfSeatsPerStar) {
+			assertEquals("Unexpected value of maxStats passed to Poll.textVisualizationBySeats", expectedMaxStars, maxStars);
+			assertEquals("Unexpected value of numOfSeatsPerStar passed to Poll.textVisualizationBySeats", expectedSeatsPerStar, numOfSeatsPerStar,0.00001);
+			return name + " seats";
+		}
+		
+		public String textVisualizationByVotes(int maxStars, double percentOfVotesPerStar) {
+			assertEquals("Unexpected value of maxStats passed to Poll.textVisualizationByVotes", expectedMaxStars, maxStars);
+			assertEquals("Unexpected value of numOfVotesPerStar passed to Poll.textVisualizationByVotes", expectedVotesPerStar, percentOfVotesPerStar,0.00001);
+			return name + " votes";
+		}
+	}
+	
+	class PartyMock extends Party {
+		public PartyMock(String partyName) {
+			super(partyName);
+		}
+		
+		public PartyMock(String partyName, float seats, float votes) {
+			super(partyName, seats, votes);
+		}
+	}
+
+	@Test
+	public void test_Constructor_zeroPollsAndSeats() {
+		PollList pl = new PollList(0,0);
+		int expectedListLength = 5;
+		int expectedNumOfSeats = 10;
+		
+		assertEquals("If number of polls is zero or less, expect number of polls to be adjusted to 5", expectedListLength, pl.toArray().length);
+		assertEquals("If number of seats is zero or less, expect number of seats to be adjusted to 10", expectedNumOfSeats, pl.getNumOfSeats());
+	}
+
+	@Test
+	public void test_Constructor_negativePollsAndSeats() {
+		PollList pl = new PollList(-1,-2);
+		int expectedListLength = 5;
+		int expectedNumOfSeats = 10;
+		
+		assertEquals("If number of polls is zero or less, expect number of polls to be adjusted to 5", expectedListLength, pl.toArray().length);
+		assertEquals("If number of seats is zero or less, expect number of seats to be adjusted to 10", expectedNumOfSeats, pl.getNumOfSeats());
+	}
+
+	@Test
+	public void test_Constructor_onePollsAndtwoSeats() {
+		PollList pl = new PollList(1,2);
+		int expectedListLength = 1;
+		int expectedNumOfSeats = 2;
+		
+		assertEquals("CreatedPollList for 1 poll", expectedListLength, pl.toArray().length);
+		assertEquals("CreatedPollList for 2 seats", expectedNumOfSeats, pl.getNumOfSeats());
+	}
+
+	@Test
+	public void test_Constructor_tenPollsAndoneSeats() {
+		PollList pl = new PollList(10,1);
+		int expectedListLength = 10;
+		int expectedNumOfSeats = 1;
+		
+		assertEquals("CreatedPollList for 10 polls", expectedListLength, pl.toArray().length);
+		assertEquals("CreatedPollList for 1 seat", expectedNumOfSeats, pl.getNumOfSeats());
+	}
+	
+	@Test
+	public void test_addPoll_toEmptyList() {
+		Poll p = new PollMock("test", 5);
+		PollList pl = new PollList(5, 20);
+		
+		pl.addPoll(p);
+		
+		assertEquals("Added poll to empty list, expected first poll in list to the poll added.", p, pl.toArray()[0]);
+		assertNull("Added poll to empty list, expected second poll in list to be null.", pl.toArray()[1]);
+		assertNull("Added poll to empty list, expected third poll in list to be null.", pl.toArray()[2]);
+		assertNull("Added poll to empty list, expected fourth poll in list to be null.", pl.toArray()[3]);
+		assertNull("Added poll to empty list, expected fifth poll in list to be null.", pl.toArray()[4]);
+		
+	}
+
+	@Test
+	public void test_addPoll_addingNull() {
+		Poll p = new PollMock("test", 5);
+		PollList pl = new PollList(5, 20);
+		
+		pl.addPoll(p);
+		pl.addPoll(null);
+		
+		assertEquals("Added null, should leave list unchanged.  testing index 0.", p, pl.toArray()[0]);
+		assertNull("Added null, should leave list unchanged.  testing index 1.", pl.toArray()[1]);
+		assertNull("Added null, should leave list unchanged.  testing index 2.", pl.toArray()[2]);
+		assertNull("Added null, should leave list unchanged.  testing index 3.", pl.toArray()[3]);
+		assertNull("Added null, should leave list unchanged.  testing index 4.", pl.toArray()[4]);
+		
+	}
+
+	@Test
+	public void test_addPoll_fillList() {
+		Poll p1 = new PollMock("test1", 1);
+		Poll p2 = new PollMock("test2", 2);
+		Poll p3 = new PollMock("test3", 3);
+		PollList pl = new PollList(3, 45);
+		
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		pl.addPoll(p3);
+		
+		assertEquals("Added three polls to fill the list of size 3.  Testing poll at index 0", p1, pl.toArray()[0]);
+		assertEquals("Added three polls to fill the list of size 3.  Testing poll at index 1", p2, pl.toArray()[1]);
+		assertEquals("Added three polls to fill the list of size 3.  Testing poll at index 2", p3, pl.toArray()[2]);
+	}
+
+	@Test
+	public void test_addPoll_listIsFull() {
+		Poll p1 = new PollMock("test1", 1);
+		Poll p2 = new PollMock("test2", 2);
+		Poll p3 = new PollMock("test3", 3);
+		PollList pl = new PollList(3, 45);
+		
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		pl.addPoll(p3);
+		
+		Poll p4 = new PollMock("duplicate", 234);
+		pl.addPoll(p4);
+		
+		assertEquals("Adding fourth poll to full list should leave list unchanged.  Testing at index 0.", p1, pl.toArray()[0]);
+		assertEquals("Adding fourth poll to full list should leave list unchanged.  Testing at index 1.", p2, pl.toArray()[1]);
+		assertEquals("Adding fourth poll to full list should leave list unchanged.  Testing at index 2.", p3, pl.toArray()[2]);
+	}
+	
+	@Test
+	public void test_addPoll_growsWhenFull() {
+		Poll p1 = new PollMock("test1", 1);
+		Poll p2 = new PollMock("test2", 2);
+		Poll p3 = new PollMock("test3", 3);
+		PollList pl = new PollList(2, 45);
+		
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		pl.addPoll(p3);
+		
+		assertEquals("Added three polls to list created for two, expected list to grow to hold three polls", 3, pl.getNumOfPolls());
+		assertEquals("Added three polls to list created for two.  Testing poll at index 0", p1, pl.toArray()[0]);
+		assertEquals("Added three polls to list created for two.  Testing poll at index 1", p2, pl.toArray()[1]);
+		assertEquals("Added three polls to list created for two.  Testing poll at index 2", p3, pl.toArray()[2]);
+	}
+	
+	@Test
+	public void test_getAveragePartyData_PartyInAllPolls() {
+		// setup first poll
+		PartyMock[] parties1 = new PartyMock[3];
+		parties1[0] = new PartyMock("zero", 100f, .25f);
+		parties1[1] = new PartyMock("one", 200f, .5f);
+		parties1[2] = new PartyMock("two", 100f, .25f);
+		
+		PollMock p1 = new PollMock("poll1", 400);
+		p1.addParties(parties1);
+		
+		// setup second poll
+		PartyMock[] parties2 = new PartyMock[3];
+		parties2[1] = new PartyMock("zero", 50f, .1f);
+		parties2[2] = new PartyMock("one", 300f, .75f);
+		parties2[0] = new PartyMock("two", 50f, .15f);
+		
+		PollMock p2 = new PollMock("poll2", 400);
+		p2.addParties(parties2);
+		p2.nextIndex = 1;
+		
+		// setup third poll
+		PartyMock[] parties3 = new PartyMock[3];
+		parties3[2] = new PartyMock("zero", 200f, .1f);
+		parties3[0] = new PartyMock("one", 100f, .75f);
+		parties3[1] = new PartyMock("two", 100f, .15f);
+		
+		PollMock p3 = new PollMock("poll3", 400);
+		p3.addParties(parties3);
+		p3.nextIndex = 2;
+		
+		PollList pl = new PollList(3,400);
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		pl.addPoll(p3);
+		
+		Party actual = pl.getAveragePartyData("zero");
+		
+		assertEquals("Party was in all polls in the list.  Testing average projected seats.", 116.66666, actual.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Party was in all polls in the list.  Testing average projected votes.", .45f/3, actual.getProjectedPercentageOfVotes(), 0.0001);		
+	}
+
+	@Test
+	public void test_getAveragePartyData_PartyInSomePolls() {
+		// setup first poll
+		PartyMock[] parties1 = new PartyMock[3];
+		parties1[0] = new PartyMock("zero", 100f, .25f);
+		parties1[1] = new PartyMock("one", 200f, .5f);
+		parties1[2] = new PartyMock("two", 100f, .25f);
+		
+		PollMock p1 = new PollMock("poll1", 400);
+		p1.addParties(parties1);
+		p1.nextIndex = 1;
+		
+		// setup second poll
+		PartyMock[] parties2 = new PartyMock[3];
+		parties2[1] = new PartyMock("zero", 50f, .1f);
+		parties2[2] = null;
+		parties2[0] = new PartyMock("two", 50f, .15f);
+		
+		PollMock p2 = new PollMock("poll2", 400);
+		p2.addParties(parties2);
+		p2.nextIndex = 2;
+		
+		// setup third poll
+		PartyMock[] parties3 = new PartyMock[3];
+		parties3[2] = new PartyMock("zero", 200f, .1f);
+		parties3[0] = new PartyMock("one", 100f, .75f);
+		parties3[1] = new PartyMock("two", 100f, .15f);
+		
+		PollMock p3 = new PollMock("poll3", 400);
+		p3.addParties(parties3);
+		p3.nextIndex = 0;
+		
+		PollList pl = new PollList(3,400);
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		pl.addPoll(p3);
+		
+		Party actual = pl.getAveragePartyData("one");
+		
+		assertEquals("Party was in two out of three polls in the list.  Testing average projected seats.", 150, actual.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Party was in two out of three polls in the list.  Testing average projected votes.", 1.25f/2, actual.getProjectedPercentageOfVotes(), 0.0001);		
+	}
+
+	@Test
+	public void test_getAveragePartyData_PartyInNoneOfThePolls() {
+		// setup first poll
+		PartyMock[] parties1 = new PartyMock[3];
+		parties1[0] = null;
+		parties1[1] = null;
+		parties1[2] = null;
+		
+		PollMock p1 = new PollMock("poll1", 400);
+		p1.addParties(parties1);
+		p1.nextIndex = 1;
+		
+		// setup second poll
+		PartyMock[] parties2 = new PartyMock[3];
+		parties2[1] = null;
+		parties2[2] = null;
+		parties2[0] = null;
+		
+		PollMock p2 = new PollMock("poll2", 400);
+		p2.addParties(parties2);
+		p2.nextIndex = 2;
+		
+		// setup third poll
+		PartyMock[] parties3 = new PartyMock[3];
+		parties3[2] = null;
+		parties3[0] = null;
+		parties3[1] = null;
+		
+		PollMock p3 = new PollMock("poll3", 400);
+		p3.addParties(parties3);
+		p3.nextIndex = 0;
+		
+		PollList pl = new PollList(3,400);
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		pl.addPoll(p3);
+		
+		Party actual = pl.getAveragePartyData("one");
+		
+		assertEquals("Party was in none of three polls in the list.  Testing average projected seats.", 0, actual.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Party was in none of three polls in the list.  Testing average projected votes.", 0, actual.getProjectedPercentageOfVotes(), 0.0001);		
+	}
+
+	@Test
+	public void test_getAggregatePoll_AllPollsSameSize() {
+		// setup first poll
+		PartyMock[] parties1 = new PartyMock[3];
+		parties1[0] = new PartyMock("zero", 100f, .25f);
+		parties1[1] = new PartyMock("one", 200f, .5f);
+		parties1[2] = new PartyMock("two", 100f, .25f);
+		
+		PollMock p1 = new PollMock("poll1", 400);
+		p1.addParties(parties1);
+		
+		// setup second poll
+		PartyMock[] parties2 = new PartyMock[3];
+		parties2[1] = new PartyMock("zero", 50f, .1f);
+		parties2[2] = new PartyMock("one", 300f, .75f);
+		parties2[0] = new PartyMock("two", 50f, .15f);
+		
+		PollMock p2 = new PollMock("poll2", 400);
+		p2.addParties(parties2);
+		p2.nextIndex = 1;
+		
+		// setup third poll
+		PartyMock[] parties3 = new PartyMock[3];
+		parties3[2] = new PartyMock("zero", 200f, .1f);
+		parties3[0] = new PartyMock("one", 100f, .75f);
+		parties3[1] = new PartyMock("two", 100f, .15f);
+		
+		PollMock p3 = new PollMock("poll3", 400);
+		p3.addParties(parties3);
+		p3.nextIndex = 2;
+		
+		PollList pl = new PollList(3,400);
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		pl.addPoll(p3);
+		
+		String[] partyNames = {"zero","one","two"};
+		
+		Poll aggregate = pl.getAggregatePoll(partyNames);
+		Party[] actualParties = aggregate.getParties();
+		Party actualZero = null;
+		Party actualOne = null;
+		Party actualTwo = null;
+		for (Party p : actualParties) {
+			if (p.getName().equals("zero")) {
+				actualZero = p;
+			} else if (p.getName().equals("one")) {
+				actualOne = p;
+			} else if (p.getName().equals("two")) {
+				actualTwo = p;
+			}
+		}
+		
+		assertEquals("Aggregate poll over three polls each the same size and same set of parties, testing aggregate poll name", "Aggregate", aggregate.getPollName());
+		assertEquals("Aggregate poll over three polls each the same size and same set of parties, testing party 'zero' avg seats (avg of 100,50,200)", 116.6666f, actualZero.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Aggregate poll over three polls each the same size and same set of parties, testing party 'zero' avg votes (avg of .25,.1,.1)", .15f, actualZero.getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals("Aggregate poll over three polls each the same size and same set of parties, testing party 'one' avg seats (avg of 200,300,100)", 200, actualOne.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Aggregate poll over three polls each the same size and same set of parties, testing party 'one' avg votes (avg of .5,.75,.75)", 0.66667f, actualOne.getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals("Aggregate poll over three polls each the same size and same set of parties, testing party 'two' avg seats (avg of 100,50,100)", 83.33333f, actualTwo.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Aggregate poll over three polls each the same size and same set of parties, testing party 'two' avg votes (avg of .25,.15,.15)", 0.18333f, actualTwo.getProjectedPercentageOfVotes(), 0.0001);
+	}
+
+	@Test
+	public void test_getAggregatePoll_somePollsMissingParties() {
+		// setup first poll
+		PartyMock[] parties1 = new PartyMock[3];
+		parties1[0] = new PartyMock("zero", 100f, .25f);
+		parties1[1] = null;
+		parties1[2] = new PartyMock("two", 100f, .25f);
+		
+		PollMock p1 = new PollMock("poll1", 400);
+		p1.addParties(parties1);
+		
+		// setup second poll
+		PartyMock[] parties2 = new PartyMock[3];
+		parties2[1] = new PartyMock("zero", 50f, .1f);
+		parties2[2] = new PartyMock("one", 300f, .5f);
+		parties2[0] = new PartyMock("two", 50f, .15f);
+		
+		PollMock p2 = new PollMock("poll2", 400);
+		p2.addParties(parties2);
+		p2.nextIndex = 1;
+		
+		// setup third poll
+		PartyMock[] parties3 = new PartyMock[3];
+		parties3[2] = null;
+		parties3[0] = new PartyMock("one", 100f, .75f);
+		parties3[1] = new PartyMock("two", 100f, .15f);
+		
+		PollMock p3 = new PollMock("poll3", 400);
+		p3.addParties(parties3);
+		p3.nextIndex = 2;
+		
+		PollList pl = new PollList(3,400);
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		pl.addPoll(p3);
+		
+		String[] partyNames = {"zero","one","two"};
+		
+		Poll aggregate = pl.getAggregatePoll(partyNames);
+		Party[] actualParties = aggregate.getParties();
+		Party actualZero = null;
+		Party actualOne = null;
+		Party actualTwo = null;
+		for (Party p : actualParties) {
+			if (p.getName().equals("zero")) {
+				actualZero = p;
+			} else if (p.getName().equals("one")) {
+				actualOne = p;
+			} else if (p.getName().equals("two")) {
+				actualTwo = p;
+			}
+		}
+		
+		assertEquals("testing aggregate poll name", "Aggregate", aggregate.getPollName());
+		assertEquals("testing party 'zero' avg seats (avg of 100,50)", 75, actualZero.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("testing party 'zero' avg votes (avg of .25,.1)", .175f, actualZero.getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals("testing party 'one' avg seats (avg of 300,100) (One poll is missing this party)", 200, actualOne.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("testing party 'one' avg votes (avg of .5,.75)(One poll is missing this party)", 0.625f, actualOne.getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals("testing party 'two' avg seats (avg of 100,50,100)", 83.33333f, actualTwo.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("testing party 'two' avg votes (avg of .25,.15,.15)", 0.18333f, actualTwo.getProjectedPercentageOfVotes(), 0.0001);
+	}
+
+	@Test
+	public void test_getAggregatePoll_listNotFull() {
+		Poll p1 = new Poll("poll1", 2);
+		p1.addParty(new Party("zero", 100f, .25f));
+		p1.addParty(new Party("one", 200f, .5f));
+		Poll p2 = new Poll("poll2", 2);
+		p2.addParty(new Party("ONE", 100f, .75f));
+		
+		PollList pl = new PollList(5, 400);
+		pl.addPoll(p1);
+		pl.addPoll(p2);
+		
+		String[] partyNames = {"zero","one"};
+		Poll aggregate = pl.getAggregatePoll(partyNames);
+		
+		assertEquals("Aggregate over two of five polls, expected two parties in aggregate", 2, aggregate.getNumberOfParties());
+		assertEquals("testing party 'zero' avg seats (only in first poll)", 100, aggregate.getParty("zero").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("testing party 'one' avg seats (avg of 200,100)", 150, aggregate.getParty("one").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("testing party 'one' avg votes (avg of .5,.75)", .625f, aggregate.getParty("one").getProjectedPercentageOfVotes(), 0.0001);
+	}
+
+	@Test
+	public void test_getAggregatePoll_parallelSameAsSequential() {
+		PollList pl = new PollList(10, 400);
+		for (int i = 0; i < 5000; i++) {
+			Poll p = new Poll("poll" + i, 3);
+			p.addParty(new Party("zero", i % 97, (i % 13) / 13f));
+			p.addParty(new Party("one", i % 31, (i % 7) / 7f));
+			if (i % 3 == 0)
+				p.addParty(new Party("two", 1.5f * (i % 11), .01f));
+			pl.addPoll(p);
+		}
+		String[] partyNames = {"zero","one","two"};
+		
+		Poll sequential = pl.getAggregatePoll(partyNames);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Poll parallel = pl.getAggregatePoll(partyNames, pool);
+			for (String partyName : partyNames) {
+				assertEquals("Expected identical average seats of " + partyName, sequential.getParty(partyName).getProjectedNumberOfSeats(),
+						parallel.getParty(partyName).getProjectedNumberOfSeats(), 0.0);
+				assertEquals("Expected identical average votes of " + partyName, sequential.getParty(partyName).getProjectedPercentageOfVotes(),
+						parallel.getParty(partyName).getProjectedPercentageOfVotes(), 0.0);
+			}
+			assertEquals("Expected identical average seats from getAveragePartyData", sequential.getParty("two").getProjectedNumberOfSeats(),
+					pl.getAveragePartyData("two", pool).getProjectedNumberOfSeats(), 0.0);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void test_toString_emptyList() {
+		PollList pl = new PollList(5, 50);
+		
+		assertEquals("Number of seats: 50\n", pl.toString());
+	}
+
+	@Test
+	public void test_toString_nonEmpytList() {
+		PollList pl = new PollList(5, 180);
+		PollMock p = new PollMock("poll1", 3);
+		p.expectedMaxStars = 18;
+		p.expectedSeatsPerStar = 10;
+		pl.addPoll(p);
+		
+		PollMock p2 = new PollMock("poll2", 4);
+		p2.expectedMaxStars = 18;
+		p2.expectedSeatsPerStar = 10;
+		pl.addPoll(p2);
+
+		PollMock p3 = new PollMock("poll3", 5);
+		p3.expectedMaxStars = 18;
+		p3.expectedSeatsPerStar = 10;
+		pl.addPoll(p3);
+
+		String actual = pl.toString();
+		String expectedLine0 = "Number of seats: 180";
+		String expectedLine1 = "poll1 seats";
+		String expectedLine2 = "poll2 seats";
+		String expectedLine3 = "poll3 seats";
+		String[] actualLines = actual.split("\n");
+		
+		assertEquals("Expected four lines of text from toString, one for number of seats and one for each poll in the list", 
+				4, actualLines.length);
+		assertEquals("Unexpected first line in visualization with three polls", 
+				expectedLine0, actualLines[0]);
+		assertEquals("Unexpected second line in visualization with three polls", 
+				expectedLine1, actualLines[1]);
+		assertEquals("Unexpected third line in visualization with three polls", 
+				expectedLine2, actualLines[2]);
+		assertEquals("Unexpected fourth line in visualization with three polls", 
+				expectedLine3, actualLines[3]);
+	}
+	
+	@Test
+	public void test_textVisualizationByVotes_zeroPollsInList() {
+		PollList pl = new PollList(10, 200);
+		
+		String actual = pl.textVisualizationByVotes();
+		String expected = "";
+		assertEquals("Expected visualization of empty poll list to be the empty string", 
+				expected, actual);
+	}
+
+	@Test
+	public void test_textVisualizationByVotes_onePollsInList() {
+		PollList pl = new PollList(10, 200);
+		PollMock p = new PollMock("poll1", 3);
+		p.expectedMaxStars = 18;
+		p.expectedVotesPerStar = 6;
+		pl.addPoll(p);
+		
+		String actual = pl.textVisualizationByVotes();
+		String expectedLine0 = "poll1 votes";
+		String[] actualLines = actual.split("\n");
+		
+		assertEquals("Expected one line of text in vizualization of Poll list, one for the single poll", 
+				1, actualLines.length);
+		assertEquals("Unexpected first line in visualization with one poll", 
+				expectedLine0, actualLines[0]);
+	}
+
+	@Test
+	public void test_textVisualizationByVotes_manyPollsInList() {
+		PollList pl = new PollList(3, 150);
+		PollMock p = new PollMock("poll1", 3);
+		p.expectedMaxStars = 18;
+		p.expectedVotesPerStar = 6;
+		pl.addPoll(p);
+		
+		PollMock p2 = new PollMock("poll2", 4);
+		p2.expectedMaxStars = 18;
+		p2.expectedVotesPerStar = 6;
+		pl.addPoll(p2);
+
+		PollMock p3 = new PollMock("poll3", 5);
+		p3.expectedMaxStars = 18;
+		p3.expectedVotesPerStar = 6;
+		pl.addPoll(p3);
+
+		String actual = pl.textVisualizationByVotes();
+		String expectedLine0 = "poll1 votes";
+		String expectedLine1 = "poll2 votes";
+		String expectedLine2 = "poll3 votes";
+		String[] actualLines = actual.split("\n");
+		
+		assertEquals("Expected three lines of text in vizualization of Poll list, one for each poll in the list", 
+				3, actualLines.length);
+		assertEquals("Unexpected first line in visualization with three polls", 
+				expectedLine0, actualLines[0]);
+		assertEquals("Unexpected second line in visualization with three polls", 
+				expectedLine1, actualLines[1]);
+		assertEquals("Unexpected third line in visualization with three polls", 
+				expectedLine2, actualLines[2]);
+	}
+
+
+	@Test
+	public void test_writeTextVisualization_toWriter() throws IOException {
+		PollList pl = new PollList(3, 150);
+		PollMock p = new PollMock("poll1", 3);
+		p.expectedMaxStars = 18;
+		p.expectedVotesPerStar = 6;
+		pl.addPoll(p);
+		
+		PollMock p2 = new PollMock("poll2", 4);
+		p2.expectedMaxStars = 18;
+		p2.expectedVotesPerStar = 6;
+		pl.addPoll(p2);
+
+		StringWriter out = new StringWriter();
+		pl.writeTextVisualization(out, "votes");
+		
+		assertEquals("Expected visualization written to a Writer to match textVisualizationByVotes", 
+				pl.textVisualizationByVotes(), out.toString());
+		assertEquals("Unexpected visualization written to a Writer with two polls", 
+				"poll1 votes\npoll2 votes\n", out.toString());
+	}
+
+	@Test
+	public void test_getRunningAggregatePoll_sameAsGetAggregatePoll() {
+		PollList pl = new PollList(1, 400);
+		Poll p1 = new Poll("poll1", 3);
+		p1.addParty(new Party("zero", 100f, .25f));
+		p1.addParty(new Party("one", 200f, .5f));
+		pl.addPoll(p1);
+		Poll p2 = new Poll("poll2", 3);
+		p2.addParty(new Party("ZERO", 50f, .1f));
+		p2.addParty(new Party("two", 0f, .15f));
+		pl.addPoll(p2);
+
+		String[] partyNames = { "zero", "one", "two", "missing" };
+		Poll expected = pl.getAggregatePoll(partyNames);
+		Poll actual = pl.getRunningAggregatePoll(partyNames);
+		for (String partyName : partyNames) {
+			assertEquals("Testing running average seats of " + partyName,
+					expected.getParty(partyName).getProjectedNumberOfSeats(),
+					actual.getParty(partyName).getProjectedNumberOfSeats(), 0.0001);
+			assertEquals("Testing running average votes of " + partyName,
+					expected.getParty(partyName).getProjectedPercentageOfVotes(),
+					actual.getParty(partyName).getProjectedPercentageOfVotes(), 0.0001);
+		}
+	}
+
+	@Test
+	public void test_getRunningAveragePartyData_partyAddedAfterPoll() {
+		PollList pl = new PollList(5, 400);
+		Poll p1 = new Poll("poll1", 3);
+		p1.addParty(new Party("zero", 100f, .25f));
+		pl.addPoll(p1);
+		Poll p2 = new Poll("poll2", 3);
+		pl.addPoll(p2);
+
+		p2.addParty(new Party("zero", 50f, .35f));
+		Party actual = pl.getRunningAveragePartyData("zero");
+		assertEquals("Party added to a poll already in the list, expected average seats (avg of 100,50)", 75,
+				actual.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Party added to a poll already in the list, expected average votes (avg of .25,.35)", .3,
+				actual.getProjectedPercentageOfVotes(), 0.0001);
+	}
+
+	@Test
+	public void test_getRunningAveragePartyData_partyReplacedAfterPoll() {
+		PollList pl = new PollList(5, 400);
+		Poll p1 = new Poll("poll1", 3);
+		p1.addParty(new Party("zero", 100f, .25f));
+		pl.addPoll(p1);
+		Poll p2 = new Poll("poll2", 3);
+		p2.addParty(new Party("zero", 50f, .35f));
+		pl.addPoll(p2);
+
+		p2.addParty(new Party("Zero", 0f, .45f));
+		Party actual = pl.getRunningAveragePartyData("zero");
+		assertEquals("Party with no seats replaced a party in the list, expected average seats of the other poll",
+				100, actual.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Party replaced in a poll in the list, expected average votes (avg of .25,.45)", .35,
+				actual.getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals(pl.getAveragePartyData("zero").getProjectedPercentageOfVotes(),
+				actual.getProjectedPercentageOfVotes(), 0.0001);
+	}
+
+	@Test
+	public void test_getAveragePartyData_minorPartyInFewPolls() {
+		PollList pl = new PollList(5, 400);
+		for (int i = 0; i < 3 * PollList.POLLS_PER_CHUNK; i++) {
+			Poll aPoll = new Poll("poll" + i, 3);
+			aPoll.addParty(new Party("zero", 100f, .5f));
+			if (i == 5 || i == PollList.POLLS_PER_CHUNK + 7 || i == 3 * PollList.POLLS_PER_CHUNK - 1)
+				aPoll.addParty(new Party("Minor", i, .01f));
+			pl.addPoll(aPoll);
+		}
+
+		assertEquals(3 * PollList.POLLS_PER_CHUNK, pl.getNumOfPollsWithParty("zero"));
+		assertEquals("Expected the minor party to be counted in its three polls", 3, pl.getNumOfPollsWithParty("minor"));
+		assertEquals(0, pl.getNumOfPollsWithParty("Never Polled"));
+		float expectedSeats = (5 + PollList.POLLS_PER_CHUNK + 7 + 3 * PollList.POLLS_PER_CHUNK - 1) / 3f;
+		assertEquals("Expected the average of only the polls the minor party is in", expectedSeats,
+				pl.getAveragePartyData("minor").getProjectedNumberOfSeats(), 0.001);
+		assertEquals(expectedSeats,
+				pl.getAveragePartyData("minor", new ForkJoinPool(4)).getProjectedNumberOfSeats(), 0.001);
+		assertEquals(100, pl.getAveragePartyData("zero").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getAveragePartyData_partyRenamedAfterPoll() {
+		PollList pl = new PollList(5, 400);
+		Poll p1 = new Poll("poll1", 3);
+		Party renamed = new Party("Alpha", 100f, .25f);
+		p1.addParty(renamed);
+		pl.addPoll(p1);
+		Poll p2 = new Poll("poll2", 3);
+		p2.addParty(new Party("alpha", 50f, .35f));
+		pl.addPoll(p2);
+
+		renamed.setName("Beta");
+		assertEquals(1, pl.getNumOfPollsWithParty("alpha"));
+		assertEquals(1, pl.getNumOfPollsWithParty("beta"));
+		assertEquals(50, pl.getAveragePartyData("alpha").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(100, pl.getAveragePartyData("beta").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Expected the running totals to follow the rename", 50,
+				pl.getRunningAveragePartyData("alpha").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(100, pl.getRunningAveragePartyData("beta").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_addPoll_pollInListWithAnotherDictionary() {
+		PollList first = new PollList(5, 400);
+		PollList second = new PollList(5, 400);
+		assertNotSame("Expected each list to have its own dictionary", first.getDictionary(), second.getDictionary());
+		second.getDictionary().getId("other");
+
+		Poll p1 = new Poll("poll1", 3);
+		p1.addParty(new Party("Zero", 100f, .25f));
+		first.addPoll(p1);
+		second.addPoll(p1);
+		p1.addParty(new Party("one", 50f, .1f));
+
+		assertSame("Expected the poll to take on the first list's dictionary", first.getDictionary(),
+				p1.getDictionary());
+		assertEquals(1, second.getNumOfPollsWithParty("zero"));
+		assertEquals(1, second.getNumOfPollsWithParty("ONE"));
+		assertEquals(100, second.getAveragePartyData("zero").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(50, second.getAveragePartyData("one").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(50, first.getRunningAveragePartyData("one").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_aggregatePolls_leaveDictionaryUnchanged() {
+		PollList pl = new PollList(5, 400);
+		Poll p = datedPoll("poll1", LocalDate.of(2021, 11, 1), 100f, .1f);
+		p.setSampleSize(1000);
+		pl.addPoll(p);
+		String[] partyNames = { "zero", "Never Polled" };
+
+		pl.getAggregatePoll(partyNames);
+		pl.getRunningAggregatePoll(partyNames);
+		pl.getMedianAggregatePoll(partyNames);
+		pl.getWindowedAggregatePoll(partyNames, 7);
+		pl.getDecayedAggregatePoll(partyNames, 7);
+		Poll weighted = pl.getWeightedAggregatePoll(partyNames);
+
+		assertEquals("Expected asking for a party not to add it to the dictionary", -1,
+				pl.getDictionary().findId("Never Polled"));
+		assertEquals(100, weighted.getParty("zero").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getRunningAveragePartyData_changedThenReplaced() {
+		PollList pl = new PollList(5, 400);
+		Poll p1 = new Poll("poll1", 3);
+		p1.addParty(new Party("Zero", 1f, .1f));
+		pl.addPoll(p1);
+		Poll p2 = new Poll("poll2", 3);
+		Party changed = new Party("Zero", 2f, .2f);
+		p2.addParty(changed);
+		pl.addPoll(p2);
+
+		changed.setProjectedNumberOfSeats(5f);
+		changed.setProjectedPercentageOfVotes(.5f);
+		Party average = pl.getRunningAveragePartyData("zero");
+		assertEquals("Expected the running totals to follow the setters", 3,
+				average.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(.3, average.getProjectedPercentageOfVotes(), 0.0001);
+
+		p2.addParty(new Party("Zero", 3f, .3f));
+		average = pl.getRunningAveragePartyData("zero");
+		assertEquals("Expected the replaced party's current values to be taken out", 2,
+				average.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(.2, average.getProjectedPercentageOfVotes(), 0.0001);
+
+		changed.setProjectedNumberOfSeats(9f);
+		average = pl.getRunningAveragePartyData("zero");
+		assertEquals("Expected the replaced party to no longer count", 2,
+				average.getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(pl.getAveragePartyData("zero").getProjectedNumberOfSeats(),
+				average.getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getNumOfPollsWithParty_partyAddedAfterPoll() {
+		PollList pl = new PollList(5, 400);
+		Poll p1 = new Poll("poll1", 3);
+		p1.addParty(new Party("zero", 100f, .25f));
+		pl.addPoll(p1);
+		Poll p2 = new Poll("poll2", 3);
+		pl.addPoll(p2);
+		assertEquals(1, pl.getNumOfPollsWithParty("zero"));
+
+		p2.addParty(new Party("ZERO", 50f, .35f));
+		p2.addParty(new Party("zero", 60f, .35f));
+		assertEquals("Expected a party added to a poll in the list to be counted once", 2,
+				pl.getNumOfPollsWithParty("zero"));
+		assertEquals("Expected the replacing party in the average (avg of 100,60)", 80,
+				pl.getAveragePartyData("zero").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getMedianPartyData_ignoresOutlier() {
+		PollList pl = new PollList(5, 400);
+		float[] seats = { 100f, 110f, 120f, 130f, 400f };
+		for (int i = 0; i < seats.length; i++) {
+			Poll aPoll = new Poll("poll" + i, 3);
+			aPoll.addParty(new Party("zero", seats[i], .2f + i / 100f));
+			pl.addPoll(aPoll);
+		}
+		assertEquals("Expected the middle poll, not pulled up by the outlier", 120,
+				pl.getMedianPartyData("zero").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(.22, pl.getMedianPartyData("ZERO").getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals(172, pl.getAveragePartyData("zero").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(400, pl.getQuantilePartyData("zero", 1).getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(110, pl.getQuantilePartyData("zero", 0.4).getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Expected the median for a quantile over 1", 120,
+				pl.getQuantilePartyData("zero", 1.5).getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(0, pl.getMedianPartyData("Never Polled").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getMedianPartyData_partyReplacedAfterPoll() {
+		PollList pl = new PollList(5, 400);
+		Poll p1 = new Poll("poll1", 3);
+		p1.addParty(new Party("zero", 100f, .25f));
+		pl.addPoll(p1);
+		Poll p2 = new Poll("poll2", 3);
+		p2.addParty(new Party("zero", 50f, .35f));
+		pl.addPoll(p2);
+		Poll p3 = new Poll("poll3", 3);
+		pl.addPoll(p3);
+		p3.addParty(new Party("zero", 70f, .45f));
+		assertEquals(70, pl.getMedianPartyData("zero").getProjectedNumberOfSeats(), 0.0001);
+
+		p2.addParty(new Party("Zero", 90f, .35f));
+		assertEquals("Expected the replaced party left out of the median (of 100,90,70)", 90,
+				pl.getMedianPartyData("zero").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getMedianAggregatePoll() {
+		PollList pl = new PollList(5, 400);
+		for (int i = 0; i < 3; i++) {
+			Poll aPoll = new Poll("poll" + i, 3);
+			aPoll.addParty(new Party("zero", 100f + i, .1f));
+			aPoll.addParty(new Party("one", 200f - i, .3f));
+			pl.addPoll(aPoll);
+		}
+		Poll aggregate = pl.getMedianAggregatePoll(new String[] { "zero", "one" });
+		assertEquals(2, aggregate.getNumberOfParties());
+		assertEquals(101, aggregate.getParty("zero").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(199, aggregate.getParty("one").getProjectedNumberOfSeats(), 0.0001);
+		assertEquals(.3, aggregate.getParty("one").getProjectedPercentageOfVotes(), 0.0001);
+	}
+
+	private static Poll datedPoll(String name, LocalDate date, float seats, float votes) {
+		Poll aPoll = new Poll(name, 3, date);
+		aPoll.addParty(new Party("zero", seats, votes));
+		return aPoll;
+	}
+
+	@Test
+	public void test_getWindowedAveragePartyData_dropsOldPolls() {
+		LocalDate day = LocalDate.of(2021, 11, 1);
+		PollList pl = new PollList(5, 400);
+		pl.addPoll(datedPoll("poll1", day, 100f, .1f));
+		pl.addPoll(new Poll("undated", 3));
+		pl.addPoll(datedPoll("poll2", day.plusDays(6), 200f, .2f));
+
+		assertEquals("Both polls within 7 days, expected average seats (avg of 100,200)", 150,
+				pl.getWindowedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Only the later poll within 6 days", 200,
+				pl.getWindowedAveragePartyData("zero", 6).getProjectedNumberOfSeats(), 0.0001);
+
+		pl.addPoll(datedPoll("poll3", day.plusDays(10), 300f, .3f));
+		assertEquals("Poll added 10 days after first, expected first poll dropped (avg of 200,300)", 250,
+				pl.getWindowedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+		assertEquals("Expected only the latest poll in a one-day window", .3,
+				pl.getWindowedAveragePartyData("zero", 1).getProjectedPercentageOfVotes(), 0.0001);
+		assertEquals("Expected all polls in a long window", 200,
+				pl.getWindowedAggregatePoll(new String[] { "zero" }, 30).getParty("zero").getProjectedNumberOfSeats(),
+				0.0001);
+	}
+
+	@Test
+	public void test_getWindowedAveragePartyData_outOfOrderPolls() {
+		LocalDate day = LocalDate.of(2021, 11, 1);
+		PollList pl = new PollList(5, 400);
+		pl.getWindowedAveragePartyData("zero", 7);
+		pl.addPoll(datedPoll("poll2", day.plusDays(5), 200f, .2f));
+		pl.addPoll(datedPoll("poll1", day, 100f, .1f));
+		pl.addPoll(datedPoll("too old", day.minusDays(10), 1000f, .9f));
+		assertEquals("Expected poll added out of order in window (avg of 100,200)", 150,
+				pl.getWindowedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+
+		pl.addPoll(datedPoll("poll3", day.plusDays(8), 300f, .3f));
+		assertEquals("Expected earlier poll added later to be dropped first (avg of 200,300)", 250,
+				pl.getWindowedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getWindowedAveragePartyData_partyReplacedAfterPoll() {
+		LocalDate day = LocalDate.of(2021, 11, 1);
+		PollList pl = new PollList(5, 400);
+		Poll p1 = datedPoll("poll1", day, 100f, .1f);
+		pl.addPoll(p1);
+		pl.addPoll(datedPoll("poll2", day.plusDays(1), 200f, .2f));
+		pl.getWindowedAveragePartyData("zero", 7);
+
+		p1.addParty(new Party("zero", 400f, .4f));
+		assertEquals("Party replaced in poll in the list, expected average seats (avg of 400,200)", 300,
+				pl.getWindowedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getWindowedAveragePartyData_changedThenReplaced() {
+		LocalDate day = LocalDate.of(2021, 11, 1);
+		PollList pl = new PollList(5, 400);
+		Poll p1 = datedPoll("poll1", day, 100f, .1f);
+		pl.addPoll(p1);
+		pl.addPoll(datedPoll("poll2", day, 100f, .1f));
+		pl.getWindowedAveragePartyData("zero", 7);
+
+		p1.getParty("zero").setProjectedNumberOfSeats(300f);
+		assertEquals("Party changed in poll in the list, expected average seats (avg of 300,100)", 200,
+				pl.getWindowedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+		p1.addParty(new Party("zero", 500f, .5f));
+		assertEquals("Changed party replaced, expected average seats (avg of 500,100)", 300,
+				pl.getWindowedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getDecayedAveragePartyData_changedThenReplaced() {
+		LocalDate day = LocalDate.of(2021, 11, 1);
+		PollList pl = new PollList(5, 400);
+		Poll p1 = datedPoll("poll1", day, 100f, .1f);
+		pl.addPoll(p1);
+		pl.addPoll(datedPoll("poll2", day.plusDays(7), 400f, .4f));
+		pl.getDecayedAveragePartyData("zero", 7);
+
+		p1.getParty("zero").setProjectedNumberOfSeats(700f);
+		p1.addParty(new Party("zero", 100f, .1f));
+		assertEquals("Changed party replaced, expected (100 + 2 * 400) / 3", 300,
+				pl.getDecayedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void test_WindowedPartySums_removeMissingEntry() {
+		WindowedPartySums sums = new WindowedPartySums(7, new PartyDictionary());
+		sums.add(100, DatedPartySums.entry(0, 0), "zero", 100f, .1f);
+		sums.remove(100, DatedPartySums.entry(0, 1));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void test_DecayedPartySums_removeMissingEntry() {
+		DecayedPartySums sums = new DecayedPartySums(7, new PartyDictionary());
+		sums.add(100, DatedPartySums.entry(0, 0), "zero", 100f, .1f);
+		sums.remove(100, DatedPartySums.entry(1, 0));
+	}
+
+	@Test
+	public void test_getWindowedAveragePartyData_invalidWindow() {
+		PollList pl = new PollList(5, 400);
+		pl.addPoll(datedPoll("poll1", LocalDate.of(2021, 11, 1), 100f, .1f));
+		assertEquals("Expected empty average for a window of zero days", 0,
+				pl.getWindowedAveragePartyData("zero", 0).getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getDecayedAveragePartyData_halfWeightAfterHalfLife() {
+		LocalDate day = LocalDate.of(2021, 11, 1);
+		PollList pl = new PollList(5, 400);
+		pl.addPoll(datedPoll("poll1", day, 100f, .1f));
+		pl.addPoll(new Poll("undated", 3));
+		pl.addPoll(datedPoll("poll2", day.plusDays(7), 400f, .4f));
+
+		assertEquals("Older poll counts half as much, expected (100 + 2 * 400) / 3", 300,
+				pl.getDecayedAveragePartyData("zero", 7).getProjectedNumberOfSeats(), 0.0001);
+
+		pl.addPoll(datedPoll("poll3", day.plusDays(14), 700f, .7f));
+		assertEquals("Expected (100 + 2 * 400 + 4 * 700) / 7", 3700f / 7,
+				pl.getDecayedAggregatePoll(new String[] { "zero" }, 7).getParty("zero").getProjectedNumberOfSeats(),
+				0.001);
+	}
+
+	@Test
+	public void test_getDecayedAveragePartyData_longSpanOfPolls() {
+		LocalDate day = LocalDate.of(2000, 1, 1);
+		PollList pl = new PollList(5, 400);
+		pl.getDecayedAveragePartyData("zero", 1);
+		for (int i = 0; i < 2000; i++) {
+			pl.addPoll(datedPoll("poll" + i, day.plusDays(i), 100f + i % 2, .1f));
+		}
+		Party actual = pl.getDecayedAveragePartyData("zero", 1);
+		assertFalse("Expected weights not to overflow", Float.isNaN(actual.getProjectedNumberOfSeats()));
+		assertEquals("Expected the latest polls to count the most ((100 + 2 * 101) / 3 and earlier)", 100.67,
+				actual.getProjectedNumberOfSeats(), 0.01);
+	}
+
+	private static Poll sampledPoll(String name, int sampleSize, float seats, float votes) {
+		Poll aPoll = new Poll(name, 3);
+		aPoll.setSampleSize(sampleSize);
+		aPoll.addParty(new Party("zero", seats, votes));
+		return aPoll;
+	}
+
+	@Test
+	public void test_getWeightedPartyEstimate_weightsBySampleSize() {
+		PollList pl = new PollList(5, 400);
+		pl.addPoll(sampledPoll("poll1", 1000, 100f, .4f));
+		pl.addPoll(sampledPoll("poll2", 3000, 200f, .5f));
+		pl.addPoll(sampledPoll("no sample size", 0, 300f, .9f));
+
+		PartyEstimate actual = pl.getWeightedPartyEstimate("zero");
+		assertEquals("Expected weighted mean (1000 * .4 + 3000 * .5) / 4000", .475, actual.getMeanVotes(), 0.0001);
+		assertEquals("Expected poll without a sample size to be left out", 2, actual.getNumOfPolls());
+		assertEquals(4000, actual.getSampleSize());
+
+		// The polls disagree more than their sample sizes explain, so the spread
+		// between polls sets the standard error
+		double effectivePolls = 4000.0 * 4000 / (1000.0 * 1000 + 3000.0 * 3000);
+		double spread = (1000 * .075 * .075 + 3000 * .025 * .025) / 4000 * effectivePolls / (effectivePolls - 1);
+		assertEquals(Math.sqrt(spread / effectivePolls), actual.getStandardError(), 0.0001);
+		assertEquals(1.96 * actual.getStandardError(), actual.getMarginOfError(), 0.0001);
+		assertEquals(actual.getMeanVotes() - actual.getMarginOfError(), actual.getLowerBound(), 0.0001);
+
+		Poll aggregate = pl.getWeightedAggregatePoll(new String[] { "zero" });
+		assertEquals("Expected weighted average seats (1000 * 100 + 3000 * 200) / 4000", 175,
+				aggregate.getParty("zero").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getWeightedPartyEstimate_onePoll() {
+		PollList pl = new PollList(5, 400);
+		pl.addPoll(sampledPoll("poll1", 1000, 100f, .4f));
+
+		PartyEstimate actual = pl.getWeightedPartyEstimates(new String[] { "zero", "missing" })[0];
+		assertEquals("Expected sampling error of a single poll", Math.sqrt(.4 * .6 / 1000), actual.getStandardError(),
+				0.0001);
+		assertEquals("Expected margin of error of about 3 points", .0304, actual.getMarginOfError(), 0.0001);
+
+		PartyEstimate missing = pl.getWeightedPartyEstimates(new String[] { "zero", "missing" })[1];
+		assertEquals("Expected no polls for a party that isn't in any poll", 0, missing.getNumOfPolls());
+		assertEquals(0, missing.getMarginOfError(), 0.0);
+	}
+
+	@Test
+	public void test_getWeightedPartyEstimate_manyPollsStayAccurate() {
+		PollList pl = new PollList(10, 400);
+		double sum = 0;
+		int numOfPolls = 100000;
+		for (int i = 0; i < numOfPolls; i++) {
+			float votes = .3f + (i % 2 == 0 ? 1e-4f : -1e-4f);
+			pl.addPoll(sampledPoll("poll" + i, 1000, 1f, votes));
+			sum += votes;
+		}
+		double mean = sum / numOfPolls;
+		double squares = 0;
+		for (int i = 0; i < numOfPolls; i++) {
+			double difference = (.3f + (i % 2 == 0 ? 1e-4f : -1e-4f)) - mean;
+			squares += difference * difference;
+		}
+
+		PartyEstimate actual = pl.getWeightedPartyEstimate("zero");
+		assertEquals(mean, actual.getMeanVotes(), 1e-9);
+		assertEquals("Expected sampling error of all 100 million people asked", Math.sqrt(mean * (1 - mean) / 1e8),
+				actual.getStandardError(), 1e-9);
+		assertTrue("Expected spread between polls to be small", squares / numOfPolls < 1.1e-8);
+	}
+
+	@Test
+	public void test_textVisualizationBySeats_cachedUntilListChanges() {
+		PollList pl = new PollList(5, 100);
+		Poll p = new Poll("poll1", 2);
+		Party p1 = new Party("zero", 40, .4f);
+		p.addParty(p1);
+		pl.addPoll(p);
+
+		String first = pl.textVisualizationBySeats();
+		assertSame("Expected the same visualization to be reused", first, pl.textVisualizationBySeats());
+
+		p1.setProjectedPercentageOfVotes(.5f);
+		assertTrue("Expected a party change to show in the list", pl.textVisualizationBySeats().contains("50% of votes"));
+
+		p.addParty(new Party("one", 20, .2f));
+		assertTrue("Expected a party added to a poll to show in the list", pl.textVisualizationBySeats().contains("one"));
+
+		Poll p2 = new Poll("poll2", 1);
+		p2.addParty(new Party("zero", 60, .6f));
+		pl.addPoll(p2);
+		assertTrue("Expected an added poll to show in the list", pl.textVisualizationBySeats().contains("poll2"));
+
+		pl.MAX_STARS_FOR_VISUALIZATION = 9;
+		assertNotEquals(pl.textVisualizationByVotes().length(), first.length());
+	}
+
+	@Test
+	public void test_renderStamp_changesWithEveryParty() {
+		PollList pl = new PollList(5, 100);
+		Poll p = new Poll("poll1", 2);
+		Party p1 = new Party("zero", 40, .4f);
+		p.addParty(p1);
+		pl.addPoll(p);
+
+		long stamp = pl.renderStamp();
+		assertEquals("Expected the stamp to stay the same while nothing changes", stamp, pl.renderStamp());
+		p1.setColourRgb(0x336699);
+		assertNotEquals("Expected a colour change to change the stamp", stamp, pl.renderStamp());
+		stamp = pl.renderStamp();
+		p1.setName("one");
+		assertNotEquals("Expected a rename to change the stamp", stamp, pl.renderStamp());
+		stamp = pl.renderStamp();
+		p.addParty(new Party("one", 20, .2f));
+		assertNotEquals("Expected a replaced party to change the stamp", stamp, pl.renderStamp());
+		stamp = pl.renderStamp();
+		p1.setProjectedNumberOfSeats(10);
+		assertEquals("Expected a party no longer in the poll not to change the stamp", stamp, pl.renderStamp());
+	}
+
+	@Test
+	public void test_getAggregatePoll_cachedUntilListChanges() {
+		PollList pl = new PollList(5, 100);
+		Poll p = new Poll("poll1", 2);
+		Party p1 = new Party("zero", 40, .4f);
+		p.addParty(p1);
+		pl.addPoll(p);
+		String[] partyNames = { "zero" };
+
+		Poll first = pl.getAggregatePoll(partyNames);
+		first.getParty("zero").setProjectedNumberOfSeats(99);
+		assertEquals("Expected changing an aggregate not to change the next one", 40,
+				pl.getAggregatePoll(partyNames).getParty("zero").getProjectedNumberOfSeats(), 0.0001);
+
+		p1.setProjectedNumberOfSeats(60);
+		assertEquals("Expected a party change to show in the aggregate", 60,
+				pl.getAggregatePoll(partyNames).getParty("zero").getProjectedNumberOfSeats(), 0.0001);
+
+		partyNames[0] = "missing";
+		assertEquals("Expected different party names to be averaged again", 0,
+				pl.getAggregatePoll(partyNames).getParty("missing").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_textVisualizationBySeats_zeroPollsInList() {
+		PollList pl = new PollList(10, 200);
+		
+		String actual = pl.textVisualizationBySeats();
+		String expected = "";
+		assertEquals("Expected visualization of empty poll list to be the empty string", 
+				expected, actual);
+	}
+
+	@Test
+	public void test_textVisualizationBySeats_onePollsInList() {
+		PollList pl = new PollList(10, 200);
+		PollMock p = new PollMock("poll1", 3);
+		p.expectedMaxStars = 18;
+		p.expectedSeatsPerStar = 12;
+		pl.addPoll(p);
+		
+		String actual = pl.textVisualizationBySeats();
+		String expectedLine0 = "poll1 seats";
+		String[] actualLines = actual.split("\n");
+		
+		assertEquals("Expected one line of text in vizualization of Poll list, one for the single poll", 
+				1, actualLines.length);
+		assertEquals("Unexpected first line in visualization with one poll", 
+				expectedLine0, actualLines[0]);
+	}
+
+	@Test
+	public void test_textVisualizationBySeats_manyPollsInList() {
+		PollList pl = new PollList(5, 160);
+		PollMock p = new PollMock("poll1", 3);
+		p.expectedMaxStars = 18;
+		p.expectedSeatsPerStar = 9;
+		pl.addPoll(p);
+		
+		PollMock p2 = new PollMock("poll2", 4);
+		p2.expectedMaxStars = 18;
+		p2.expectedSeatsPerStar = 9;
+		pl.addPoll(p2);
+
+		PollMock p3 = new PollMock("poll3", 5);
+		p3.expectedMaxStars = 18;
+		p3.expectedSeatsPerStar = 9;
+		pl.addPoll(p3);
+
+		String actual = pl.textVisualizationBySeats();
+		String expectedLine0 = "poll1 seats";
+		String expectedLine1 = "poll2 seats";
+		String expectedLine2 = "poll3 seats";
+		String[] actualLines = actual.split("\n");
+		
+		assertEquals("Expected three lines of text in vizualization of Poll list, one for each poll in the list", 
+				3, actualLines.length);
+		assertEquals("Unexpected first line in visualization with three polls", 
+				expectedLine0, actualLines[0]);
+		assertEquals("Unexpected second line in visualization with three polls", 
+				expectedLine1, actualLines[1]);
+		assertEquals("Unexpected third line in visualization with three polls", 
+				expectedLine2, actualLines[2]);
+	}
+
+
+}
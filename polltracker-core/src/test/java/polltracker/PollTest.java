@@ -1,5 +1,10 @@
+package polltracker;
+
 import static org.junit.Assert.*;
 
+import java.awt.Color;
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 public class PollTest {
@@ -36,6 +41,24 @@ public class PollTest {
 		assertEquals("Created poll with room for 5 parties but did not add any parties yet", 0, p.getNumberOfParties());
 	}
 
+	@Test
+	public void test_constructor_withDate() {
+		Poll p = new Poll("Poll Test", 5, LocalDate.of(2021, 11, 22));
+		assertEquals("Created poll with name 'Poll Test'", "Poll Test", p.getPollName());
+		assertEquals("Created poll taken on 2021-11-22", LocalDate.of(2021, 11, 22), p.getDate());
+		assertNull("Created poll without a date", new Poll("Poll Test", 5).getDate());
+	}
+
+	@Test
+	public void test_setSampleSize() {
+		Poll p = new Poll("Poll Test", 5);
+		assertEquals("Created poll without a sample size", 0, p.getSampleSize());
+		p.setSampleSize(1000);
+		assertEquals(1000, p.getSampleSize());
+		p.setSampleSize(-5);
+		assertEquals("Negative sample size should be ignored", 1000, p.getSampleSize());
+	}
+
 	@Test
 	public void test_constructor_invalidZeroParties() {
 		Poll p = new Poll("Poll Test 2", 0);
@@ -99,6 +122,26 @@ public class PollTest {
 		assertEquals("Created poll with room for -1 parties, should be able to add 10 parties", 10, p.getNumberOfParties());
 	}
 
+	@Test
+	public void test_constructor_invalidZeroPartiesNoLimit() {
+		Poll p = new Poll("Poll Test", 0);
+		for (int i = 0; i < 25; i++) {
+			p.addParty(new MockParty("p" + i));
+		}
+		assertEquals("Created poll with room for 0 parties, should have no limit on the number of parties", 25, p.getNumberOfParties());
+		assertNotNull("Created poll with room for 0 parties, expected last of 25 parties to be found by getParty", p.getParty("p24"));
+	}
+
+	@Test
+	public void test_constructor_moreThanTenParties() {
+		Poll p = new Poll("Poll Test", 12);
+		for (int i = 0; i < 13; i++) {
+			p.addParty(new MockParty("p" + i));
+		}
+		assertEquals("Created poll with room for 12 parties, should be able to add 12 parties", 12, p.getNumberOfParties());
+		assertNull("Created poll with room for 12 parties, expected 13th party add to fail", p.getParty("p12"));
+	}
+
 	@Test
 	public void test_addParty_firstAdd() {
 		Poll p = new Poll("Poll Test", 4);
@@ -258,6 +301,22 @@ public class PollTest {
 		assertEquals("Call addParty with value of argument null.  Should leave array unchanged.", 0, p.getNumberOfParties());		
 	}
 
+	@Test
+	public void test_getParty_caseInsensitive() {
+		Poll p = new Poll("Poll Test", 4);
+		Party p1 = new MockParty("PartyOne");
+		p.addParty(p1);
+		assertEquals("Added 'PartyOne', expected it to be found when looked up as 'PARTYONE'", p1, p.getParty("PARTYONE"));
+		assertEquals("Added 'PartyOne', expected it to be found when looked up as 'partyone'", p1, p.getParty("partyone"));
+	}
+
+	@Test
+	public void test_getParty_notInPartlyFilledPoll() {
+		Poll p = new Poll("Poll Test", 4);
+		p.addParty(new MockParty("PartyOne"));
+		assertNull("Poll has room for four parties but only one was added, expected unknown party to be null", p.getParty("Party Two"));
+	}
+
 	@Test
 	public void test_toString_emptyPoll() {
 		Poll p = new Poll("Poll test toString", 4);
@@ -429,6 +488,130 @@ public class PollTest {
 				expectedLine5, actualLines[5]);
 	}
 
+	@Test
+	public void test_getParty_manyParties() {
+		Poll p = new Poll("Many parties", 0);
+		for (int i = 0; i < 100; i++) {
+			p.addParty(new Party("Many Party " + i, i, .001f * i));
+		}
+		p.addParty(new Party("MANY PARTY 42", 4200, .5f));
 
+		assertEquals("Expected replacing a party not to add one", 100, p.getNumberOfParties());
+		for (int i = 0; i < 100; i++) {
+			Party found = p.getParty("many party " + i);
+			assertNotNull("Expected to find party " + i, found);
+			assertEquals(i == 42 ? 4200 : i, found.getProjectedNumberOfSeats(), 0.0001);
+		}
+		assertNull(p.getParty("Many Party 100"));
+	}
+
+	@Test
+	public void test_getParty_afterRename() {
+		Poll p = new Poll("Renamed party", 5);
+		Party alpha = new Party("Alpha", 10, .1f);
+		p.addParty(alpha);
+		alpha.setName("Beta");
+
+		assertSame("Expected the renamed party to be found by its new name", alpha, p.getParty("beta"));
+		assertNull("Expected the renamed party not to be found by its old name", p.getParty("Alpha"));
+		p.addParty(new Party("Alpha", 20, .2f));
+		assertEquals("Expected a new party with the old name to be added, not to replace the renamed one", 2,
+				p.getNumberOfParties());
+		assertSame(alpha, p.getParty("Beta"));
+		assertEquals(20, p.getParty("alpha").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getParty_afterRenameManyParties() {
+		Poll p = new Poll("Many renamed parties", 0);
+		for (int i = 0; i < 20; i++) {
+			p.addParty(new Party("Renamed Party " + i, i, .01f));
+		}
+		Party renamed = p.getParty("Renamed Party 7");
+		renamed.setName("Renamed Party 70");
+
+		assertSame(renamed, p.getParty("renamed party 70"));
+		assertNull(p.getParty("Renamed Party 7"));
+		p.addParty(new Party("Renamed Party 7", 7, .01f));
+		assertEquals(21, p.getNumberOfParties());
+		assertEquals(19, p.getParty("Renamed Party 19").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getParty_renamedAfterReplaced() {
+		Poll p = new Poll("Replaced party", 5);
+		Party replaced = new Party("Alpha", 10, .1f);
+		p.addParty(replaced);
+		p.addParty(new Party("ALPHA", 20, .2f));
+		replaced.setName("Beta");
+
+		assertNull("Expected a party no longer in the poll not to change it", p.getParty("Beta"));
+		assertEquals(20, p.getParty("alpha").getProjectedNumberOfSeats(), 0.0001);
+	}
+
+	@Test
+	public void test_getParty_renamedInManyPollsAfterSomeReplaced() {
+		Party shared = new Party("Alpha", 10, .1f);
+		Poll[] polls = new Poll[9];
+		for (int i = 0; i < polls.length; i++) {
+			polls[i] = new Poll("Shared party " + i, 5);
+			polls[i].addParty(shared);
+		}
+		polls[0].addParty(new Party("alpha", 20, .2f));
+		polls[4].addParty(new Party("alpha", 20, .2f));
+		polls[8].addParty(new Party("alpha", 20, .2f));
+		shared.setName("Beta");
+
+		for (int i = 0; i < polls.length; i++) {
+			if (i % 4 == 0) {
+				assertNull("Expected a poll the party was replaced in not to change", polls[i].getParty("Beta"));
+				assertEquals(20, polls[i].getParty("alpha").getProjectedNumberOfSeats(), 0.0001);
+			} else {
+				assertSame("Expected every poll still holding the party to find it by its new name", shared,
+						polls[i].getParty("beta"));
+			}
+		}
+	}
+
+	@Test
+	public void test_textVisualizationBySeats_cachedUntilPartyChanges() {
+		Poll p = new Poll("Cached poll", 3);
+		Party p1 = new Party("Party1", 100, .4f);
+		p.addParty(p1);
+		p.addParty(new Party("Party2", 50, .2f));
+
+		String first = p.textVisualizationBySeats(10, 20);
+		assertSame("Expected the same visualization to be reused", first, p.textVisualizationBySeats(10, 20));
+		assertNotEquals("Expected a different visualization for a different amount per star", first,
+				p.textVisualizationBySeats(10, 10));
+
+		p1.setProjectedNumberOfSeats(150);
+		String changed = p.textVisualizationBySeats(10, 20);
+		assertTrue("Expected the visualization to show the new seats, got " + changed, changed.contains("150.0 seats"));
+
+		p1.setColour(new Color(1, 2, 3));
+		assertTrue(p.textVisualizationBySeats(10, 20).contains("[1,2,3]"));
+
+		p.addParty(new Party("party1", 10, .1f));
+		assertTrue("Expected the replaced party in the visualization",
+				p.textVisualizationBySeats(10, 20).contains("party1 (10% of votes, 10.0 seats)"));
+
+		// Changing the replaced party doesn't change the poll
+		String afterReplace = p.textVisualizationBySeats(10, 20);
+		p1.setProjectedNumberOfSeats(1);
+		assertSame(afterReplace, p.textVisualizationBySeats(10, 20));
+	}
+
+	@Test
+	public void test_textVisualizationByVotes_cachedUntilPartyAdded() {
+		Poll p = new Poll("Cached poll", 3);
+		p.addParty(new Party("Party1", 100, .4f));
+		String first = p.textVisualizationByVotes(10, 10);
+
+		p.addParty(new Party("Party2", 50, .2f));
+		String changed = p.textVisualizationByVotes(10, 10);
+		assertNotEquals(first, changed);
+		assertTrue(changed.contains("Party2"));
+	}
 
 }
@@ -0,0 +1,113 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class QuantileSketchTest {
+
+	private static ArrayList<Float> shuffledValues(int numOfValues, long seed) {
+		ArrayList<Float> values = new ArrayList<Float>();
+		for (int i = 0; i < numOfValues; i++) {
+			values.add((float) i);
+		}
+		Collections.shuffle(values, new Random(seed));
+		return values;
+	}
+
+	@Test
+	public void test_quantile_exactForFewValues() {
+		QuantileSketch sketch = new QuantileSketch();
+		for (float value : new float[] { 5f, 1f, 4f, 2f, 3f }) {
+			sketch.add(value);
+		}
+		assertEquals(5, sketch.getCount());
+		assertEquals("Expected the median of five values", 3f, sketch.quantile(0.5), 0f);
+		assertEquals("Expected the smallest value at 0", 1f, sketch.quantile(0), 0f);
+		assertEquals("Expected the largest value at 1", 5f, sketch.quantile(1), 0f);
+		assertEquals(2f, sketch.quantile(0.4), 0f);
+	}
+
+	@Test
+	public void test_quantile_empty() {
+		assertTrue(Float.isNaN(new QuantileSketch().quantile(0.5)));
+	}
+
+	@Test
+	public void test_quantile_withinRankErrorForManyValues() {
+		int numOfValues = 200000;
+		QuantileSketch sketch = new QuantileSketch();
+		for (float value : shuffledValues(numOfValues, 7)) {
+			sketch.add(value);
+		}
+		assertEquals(numOfValues, sketch.getCount());
+		for (double quantile : new double[] { 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99 }) {
+			assertEquals("Testing the rank of quantile " + quantile, quantile * numOfValues, sketch.quantile(quantile),
+					QuantileSketch.RANK_ERROR * numOfValues);
+		}
+	}
+
+	@Test
+	public void test_quantile_sameForSameValues() {
+		QuantileSketch first = new QuantileSketch();
+		QuantileSketch second = new QuantileSketch();
+		for (float value : shuffledValues(50000, 11)) {
+			first.add(value);
+			second.add(value);
+		}
+		assertEquals("Expected the same estimate from the same values in the same order", first.quantile(0.5),
+				second.quantile(0.5), 0f);
+	}
+
+	@Test
+	public void test_quantile_sameFromManyThreads() throws Exception {
+		final QuantileSketch sketch = new QuantileSketch();
+		for (float value : shuffledValues(50000, 5)) {
+			sketch.add(value);
+		}
+		final float expected = sketch.quantile(0.5);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			ArrayList<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for (int thread = 0; thread < 4; thread++) {
+				results.add(executor.submit(() -> {
+					for (int read = 0; read < 200; read++) {
+						if (sketch.quantile(0.5) != expected)
+							return false;
+					}
+					return true;
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue("Expected every thread to read the same median", result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void test_merge_estimatesBothStreams() {
+		int numOfValues = 100000;
+		QuantileSketch low = new QuantileSketch();
+		QuantileSketch high = new QuantileSketch();
+		for (float value : shuffledValues(numOfValues, 3)) {
+			if (value < numOfValues / 4)
+				low.add(value);
+			else
+				high.add(value);
+		}
+		low.merge(high);
+		assertEquals(numOfValues, low.getCount());
+		assertEquals("Expected the merged sketch unchanged", numOfValues * 3 / 4, high.getCount());
+		assertEquals(numOfValues / 2, low.quantile(0.5), QuantileSketch.RANK_ERROR * numOfValues);
+		assertEquals(numOfValues / 10, low.quantile(0.1), QuantileSketch.RANK_ERROR * numOfValues);
+	}
+}
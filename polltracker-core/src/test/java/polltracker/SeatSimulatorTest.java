@@ -0,0 +1,109 @@
+package polltracker;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class SeatSimulatorTest {
+
+	private static PartyEstimate[] estimates() {
+		return new PartyEstimate[] { new PartyEstimate("A", 10, 10000, .40, .01),
+				new PartyEstimate("B", 10, 10000, .35, .01), new PartyEstimate("C", 10, 10000, .25, .01) };
+	}
+
+	@Test
+	public void test_simulate_noUncertainty() {
+		PartyEstimate[] estimates = { new PartyEstimate("A", 1, 1000, .5, 0), new PartyEstimate("B", 1, 1000, .3, 0),
+				new PartyEstimate("C", 1, 1000, .2, 0) };
+		SeatProjection projection = new SeatSimulator(estimates, 10).simulate(1000, 1L, null);
+
+		assertEquals(1000, projection.getNumOfSimulations());
+		assertEquals("Expected A to win 5 seats every time", 1.0, projection.getSeatProbability(0, 5), 0.0);
+		assertEquals(3.0, projection.getMeanSeats(1), 0.0);
+		assertEquals(1.0, projection.getWinProbability(0), 0.0);
+		assertEquals("Half the seats isn't a majority", 0.0, projection.getMajorityProbability(0), 0.0);
+	}
+
+	@Test
+	public void test_simulate_sameResultWithAnyPool() {
+		SeatSimulator simulator = new SeatSimulator(estimates(), 100);
+		SeatProjection sequential = simulator.simulate(20000, 42L, null);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			SeatProjection parallel = simulator.simulate(20000, 42L, pool);
+			for (int party = 0; party < 3; party++) {
+				for (int seats = 0; seats <= 100; seats++) {
+					assertEquals(sequential.getSeatProbability(party, seats), parallel.getSeatProbability(party, seats),
+							0.0);
+				}
+				assertEquals(sequential.getWinProbability(party), parallel.getWinProbability(party), 0.0);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void test_simulate_distribution() {
+		SeatProjection projection = new SeatSimulator(estimates(), 100).simulate(50000, 7L);
+
+		double totalWins = 0;
+		for (int party = 0; party < projection.getNumOfParties(); party++) {
+			totalWins += projection.getWinProbability(party);
+			double totalProbability = 0;
+			for (int seats = 0; seats <= 100; seats++) {
+				totalProbability += projection.getSeatProbability(party, seats);
+			}
+			assertEquals("Expected each party's seat probabilities to add up to one", 1.0, totalProbability, 1e-9);
+		}
+		assertEquals("Expected one winner in every simulation", 1.0, totalWins, 1e-9);
+		assertEquals("Expected A to average about 40 seats", 40, projection.getMeanSeats(0), 1);
+		assertTrue("Expected A to usually win the most seats", projection.getWinProbability(0) > .9);
+		int index = projection.indexOf("b");
+		assertEquals(1, index);
+		assertTrue(projection.getSeatsAtPercentile(index, .05) <= projection.getSeatsAtPercentile(index, .5));
+		assertTrue(projection.getSeatsAtPercentile(index, .5) <= projection.getSeatsAtPercentile(index, .95));
+	}
+
+	@Test
+	public void test_simulate_withAllocator() {
+		SeatSimulator simulator = new SeatSimulator(estimates(), 100, new LargestRemainderAllocator());
+		SeatProjection projection = simulator.simulate(10000, 5L, null);
+		assertEquals("Expected A to average about 40 seats", 40, projection.getMeanSeats(0), 1);
+	}
+
+	@Test
+	public void test_fromPollList() {
+		PollList pl = new PollList(5, 10);
+		Poll p = new Poll("poll1", 3);
+		p.setSampleSize(1000);
+		p.addParty(new Party("A", 5, .6f));
+		pl.addPoll(p);
+		Poll p2 = new Poll("poll2", 3);
+		p2.addParty(new Party("B", 5, .4f));
+		pl.addPoll(p2);
+
+		SeatProjection projection = SeatSimulator.fromPollList(pl, new String[] { "A", "B" }).simulate(100, 3L, null);
+		assertEquals("Expected B to be projected from its plain average", 0.4, projection.getMeanSeats(1) / 10, 0.2);
+	}
+
+	@Test
+	public void test_fromPollList_noSampleSizes() {
+		PollList pl = new PollList(5, 10);
+		float[] votesOfA = { .40f, .60f, .45f, .55f };
+		for (int i = 0; i < votesOfA.length; i++) {
+			Poll p = new Poll("poll" + i, 2);
+			p.addParty(new Party("A", 5, votesOfA[i]));
+			p.addParty(new Party("B", 5, 1 - votesOfA[i]));
+			pl.addPoll(p);
+		}
+
+		SeatSimulator simulator = SeatSimulator.fromPollList(pl, new String[] { "A", "B" });
+		SeatProjection projection = simulator.simulate(10000, 5L, null);
+		assertEquals(5, projection.getMeanSeats(0), 0.2);
+		assertTrue("Expected the spread between polls to vary the seats", projection.getSeatProbability(0, 5) < 0.9);
+		assertTrue(projection.getWinProbability(0) > 0.2 && projection.getWinProbability(0) < 0.8);
+	}
+}